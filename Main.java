@@ -2,64 +2,160 @@ import model.*;
 import service.*;
 import util.*;
 
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
-import java.time.LocalDate;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
-import java.util.regex.Pattern;
+import java.util.function.Function;
 
 public class Main {
-    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
-    private static final Pattern PHONE_PATTERN = Pattern.compile("^\\d{10,11}$");
-    private static final Pattern DATE_PATTERN = Pattern.compile("^\\d{2}/\\d{2}/\\d{4}$");
-    private static final Pattern TIME_PATTERN = Pattern.compile("^([01]?[0-9]|2[0-3]):[0-5][0-9]$");
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+    private static final int TAMANHO_PAGINA = 20;
 
-    private static boolean validarEmail(String email) {
-        return EMAIL_PATTERN.matcher(email).matches();
-    }
-
-    private static boolean validarTelefone(String telefone) {
-        return PHONE_PATTERN.matcher(telefone.replaceAll("[^0-9]", "")).matches();
+    private static void paginar(Scanner scanner, String titulo, String vazio, Function<String, Pagina<Evento>> consulta) {
+        Pagina<Evento> pagina = consulta.apply(null);
+        if (pagina.isVazia()) {
+            System.out.println(vazio);
+            return;
+        }
+        System.out.println("\n" + titulo);
+        while (true) {
+            pagina.getItens().forEach(System.out::println);
+            if (!pagina.temProxima()) {
+                return;
+            }
+            System.out.print("Próxima página? (s/n): ");
+            if (!scanner.nextLine().trim().equalsIgnoreCase("s")) {
+                return;
+            }
+            pagina = consulta.apply(pagina.getCursor());
+        }
     }
 
-    private static boolean validarData(String data) {
-        if (!DATE_PATTERN.matcher(data).matches()) {
-            return false;
+    private static void buscaCombinada(Scanner scanner, EventoService eventoService) {
+        ConsultaEventos consulta = eventoService.consulta();
+        System.out.print("Nome contém (vazio para ignorar): ");
+        consulta.nomeContem(scanner.nextLine().trim());
+        System.out.print("Categoria (Festa, Show, Esporte, Outro ou vazio): ");
+        String categoria = scanner.nextLine().trim();
+        if (!categoria.isEmpty()) {
+            consulta.categoria(Validador.converterCategoria(categoria));
         }
-        try {
-            LocalDate.parse(data, DATE_FORMATTER);
-            return true;
-        } catch (DateTimeParseException e) {
-            return false;
+        System.out.print("Data inicial (dd/mm/aaaa ou vazio): ");
+        String dataInicial = scanner.nextLine().trim();
+        if (!dataInicial.isEmpty()) {
+            int data = Validador.lerData(dataInicial);
+            if (data < 0) {
+                System.out.println("Data inválida! Use o formato dd/mm/aaaa");
+                return;
+            }
+            consulta.aPartirDe(Validador.converterDataHora(data, 0));
+        }
+        System.out.print("Data final (dd/mm/aaaa ou vazio): ");
+        String dataFinal = scanner.nextLine().trim();
+        if (!dataFinal.isEmpty()) {
+            int data = Validador.lerData(dataFinal);
+            if (data < 0) {
+                System.out.println("Data inválida! Use o formato dd/mm/aaaa");
+                return;
+            }
+            consulta.ate(Validador.converterDataHora(data, 0).plusDays(1));
+        }
+        System.out.print("Endereço contém (vazio para ignorar): ");
+        consulta.enderecoContem(scanner.nextLine().trim());
+        System.out.print("Mínimo de participantes (vazio para ignorar): ");
+        String minimo = scanner.nextLine().trim();
+        if (!minimo.isEmpty()) {
+            consulta.minimoParticipantes(Integer.parseInt(minimo));
+        }
+        System.out.print("Máximo de participantes (vazio para ignorar): ");
+        String maximo = scanner.nextLine().trim();
+        if (!maximo.isEmpty()) {
+            consulta.maximoParticipantes(Integer.parseInt(maximo));
+        }
+        System.out.print("Ordenar por (1. Cadastro, 2. Horário, 3. Horário decrescente, 4. Participantes): ");
+        String ordem = scanner.nextLine().trim();
+        if (!ordem.isEmpty()) {
+            int indiceOrdem = Integer.parseInt(ordem) - 1;
+            if (indiceOrdem < 0 || indiceOrdem >= OrdemConsulta.values().length) {
+                System.out.println("Opção inválida!");
+                return;
+            }
+            consulta.ordenarPor(OrdemConsulta.values()[indiceOrdem]);
+        }
+        System.out.print("Limite de resultados (vazio para " + TAMANHO_PAGINA + "): ");
+        String limite = scanner.nextLine().trim();
+        consulta.limite(limite.isEmpty() ? TAMANHO_PAGINA : Integer.parseInt(limite));
+
+        List<Evento> encontrados = consulta.executar();
+        if (encontrados.isEmpty()) {
+            System.out.println("Nenhum evento encontrado.");
+            return;
         }
+        System.out.println("\nEventos encontrados (" + consulta.explicar() + "):");
+        encontrados.forEach(System.out::println);
     }
 
-    private static boolean validarHora(String hora) {
-        return TIME_PATTERN.matcher(hora).matches();
+    private static FileManager abrirArquivos() {
+        return new FileManager("dados.bin", "journal.log", Boolean.getBoolean("snapshot.mapeado"));
     }
 
-    private static LocalDateTime converterDataHora(String data, String hora) {
-        LocalDate dataEvento = LocalDate.parse(data, DATE_FORMATTER);
-        LocalTime horaEvento = LocalTime.parse(hora, TIME_FORMATTER);
-        return LocalDateTime.of(dataEvento, horaEvento);
+    private static void executarEmLote(String[] args) {
+        FileManager fileManager = abrirArquivos();
+        try {
+            TipoRegistro tipo = TipoRegistro.valueOf(args[1].toUpperCase());
+            if (args[0].equalsIgnoreCase("importar")) {
+                int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+                System.out.println(fileManager.importar(args[2], tipo, threads));
+                System.out.println("Linhas rejeitadas em " + args[2] + ".rejeitados.csv");
+            } else {
+                System.out.println(fileManager.exportar(args[2], tipo) + " linhas exportadas para " + args[2]);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Erro ao processar arquivo: " + e.getMessage());
+        } finally {
+            fileManager.fechar();
+        }
+    }
+
+    private static void executarServidor(String[] args) {
+        Metricas.registrarMBean();
+        FileManager fileManager = abrirArquivos();
+        Runtime.getRuntime().addShutdownHook(new Thread(fileManager::fechar, "encerramento"));
+        try {
+            int porta = args.length > 1 ? Integer.parseInt(args[1]) : 8080;
+            ServidorApi servidor = new ServidorApi(fileManager, porta, 1024);
+            servidor.iniciar();
+            System.out.println("Servidor HTTP ouvindo na porta " + servidor.getPorta());
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Erro ao iniciar servidor: " + e.getMessage());
+        }
     }
 
     public static void main(String[] args) {
+        if (args.length >= 1 && args[0].equalsIgnoreCase("servidor")) {
+            executarServidor(args);
+            return;
+        }
+        if (args.length >= 3 && (args[0].equalsIgnoreCase("importar") || args[0].equalsIgnoreCase("exportar"))) {
+            executarEmLote(args);
+            return;
+        }
+        Metricas.registrarMBean();
+        long intervaloMetricas = Long.getLong("metricas.intervalo", 0);
+        if (intervaloMetricas > 0) {
+            Metricas.iniciarDespejo("metricas.log", intervaloMetricas);
+        }
         Scanner scanner = new Scanner(System.in);
-        UsuarioService usuarioService = new UsuarioService();
-        EventoService eventoService = new EventoService();
-        FileManager fileManager = new FileManager("events.data", "users.data");
+        FileManager fileManager = abrirArquivos();
+        Runtime.getRuntime().addShutdownHook(new Thread(fileManager::fechar, "encerramento"));
 
-        EventoService eventosCarregados = fileManager.carregarEventos();
-        eventoService.setEventos(eventosCarregados.getEventos());
-        
-        UsuarioService usuariosCarregados = fileManager.carregarUsuarios();
-        usuarioService = usuariosCarregados;
+        EventoService eventoService = fileManager.carregarEventos();
+        UsuarioService usuarioService = fileManager.carregarUsuarios();
 
         Usuario usuarioAtual = null;
         System.out.println("Bem-vindo ao Sistema de Eventos!");
@@ -88,21 +184,21 @@ public class Main {
 
                     System.out.print("Digite seu e-mail: ");
                     String email = scanner.nextLine().trim();
-                    if (!validarEmail(email)) {
+                    if (!Validador.validarEmail(email)) {
                         System.out.println("Email inválido!");
                         continue;
                     }
 
                     System.out.print("Digite seu telefone: ");
                     String telefone = scanner.nextLine().trim();
-                    if (!validarTelefone(telefone)) {
+                    if (!Validador.validarTelefone(telefone)) {
                         System.out.println("Telefone inválido! Use apenas números (10 ou 11 dígitos)");
                         continue;
                     }
 
-                    usuarioAtual = new Usuario(nome, email, telefone);
-                    usuarioService.adicionarUsuario(usuarioAtual);
-                    fileManager.salvarUsuarios(usuarioService);
+                    Usuario novoUsuario = new Usuario(nome, email, telefone);
+                    fileManager.adicionarUsuario(novoUsuario);
+                    usuarioAtual = novoUsuario;
                     System.out.println("Usuário cadastrado com sucesso!");
                 }
             } catch (NumberFormatException e) {
@@ -114,6 +210,10 @@ public class Main {
             }
         }
 
+        CanalNotificacaoMemoria caixaNotificacoes = new CanalNotificacaoMemoria(usuarioAtual);
+        AgendadorNotificacoes agendador = new AgendadorNotificacoes(caixaNotificacoes);
+        eventoService.setAgendador(agendador);
+
         int opcao = -1;
         while (opcao != 0) {
             try {
@@ -127,6 +227,9 @@ public class Main {
                 System.out.println("8. Buscar eventos");
                 System.out.println("9. Verificar notificações");
                 System.out.println("10. Gerar relatórios");
+                System.out.println("11. Importar dados (CSV/JSONL)");
+                System.out.println("12. Exportar dados (CSV/JSONL)");
+                System.out.println("13. Estatísticas de desempenho");
                 System.out.println("0. Sair");
                 System.out.print("Escolha uma opção: ");
                 opcao = Integer.parseInt(scanner.nextLine());
@@ -149,7 +252,7 @@ public class Main {
                             }
 
                             System.out.print("Categoria (Festa, Show, Esporte, Outro): ");
-                            Categoria categoria = Categoria.valueOf(scanner.nextLine().toUpperCase());
+                            Categoria categoria = Validador.converterCategoria(scanner.nextLine().trim());
 
                             System.out.print("Descrição: ");
                             String descricao = scanner.nextLine().trim();
@@ -158,34 +261,41 @@ public class Main {
                                 break;
                             }
 
-                            String data;
+                            System.out.print("Capacidade (0 para sem limite): ");
+                            String capacidadeTexto = scanner.nextLine().trim();
+                            int capacidade = Validador.lerCapacidade(capacidadeTexto);
+                            if (capacidade < 0) {
+                                System.out.println("Capacidade inválida! Use um número inteiro.");
+                                break;
+                            }
+
+                            int data;
                             do {
                                 System.out.print("Data do evento (dd/mm/aaaa): ");
-                                data = scanner.nextLine().trim();
-                                if (!validarData(data)) {
+                                data = Validador.lerData(scanner.nextLine().trim());
+                                if (data < 0) {
                                     System.out.println("Data inválida! Use o formato dd/mm/aaaa");
                                 }
-                            } while (!validarData(data));
+                            } while (data < 0);
 
-                            String hora;
+                            int hora;
                             do {
                                 System.out.print("Horário do evento (HH:mm): ");
-                                hora = scanner.nextLine().trim();
-                                if (!validarHora(hora)) {
+                                hora = Validador.lerHora(scanner.nextLine().trim());
+                                if (hora < 0) {
                                     System.out.println("Horário inválido! Use o formato HH:mm (24 horas)");
                                 }
-                            } while (!validarHora(hora));
+                            } while (hora < 0);
 
-                            LocalDateTime horario = converterDataHora(data, hora);
+                            LocalDateTime horario = Validador.converterDataHora(data, hora);
 
                             if (horario.isBefore(LocalDateTime.now())) {
                                 System.out.println("Não é possível criar eventos no passado!");
                                 break;
                             }
 
-                            Evento evento = new Evento(nome, endereco, categoria, horario, descricao);
-                            eventoService.adicionarEvento(evento);
-                            fileManager.salvarEventos(eventoService);
+                            Evento evento = new Evento(nome, endereco, categoria, horario, descricao, capacidade);
+                            fileManager.adicionarEvento(evento);
                             System.out.println("Evento cadastrado!");
                         } catch (IllegalArgumentException e) {
                             System.out.println("Categoria inválida! Use: Festa, Show, Esporte ou Outro");
@@ -194,7 +304,8 @@ public class Main {
                         }
                         break;
                     case 2:
-                        eventoService.listarEventosOrdenados();
+                        paginar(scanner, "Eventos cadastrados:", "Não há eventos cadastrados.",
+                                cursor -> eventoService.paginaEventosOrdenados(cursor, TAMANHO_PAGINA));
                         break;
                     case 3:
                         System.out.print("Digite o nome do evento para participar: ");
@@ -202,11 +313,12 @@ public class Main {
                         boolean achou = false;
                         for (Evento ev : eventoService.getEventos()) {
                             if (ev.getNome().equalsIgnoreCase(nomeEvento)) {
-                                usuarioAtual.participarEvento(ev);
-                                ev.adicionarParticipante(usuarioAtual);
-                                fileManager.salvarEventos(eventoService);
-                                fileManager.salvarUsuarios(usuarioService);
-                                System.out.println("Participação confirmada!");
+                                fileManager.confirmarParticipacao(usuarioAtual, ev);
+                                if (ev.estaNaListaDeEspera(usuarioAtual)) {
+                                    System.out.println("Evento lotado! Você entrou na lista de espera.");
+                                } else {
+                                    System.out.println("Participação confirmada!");
+                                }
                                 achou = true;
                                 break;
                             }
@@ -219,10 +331,7 @@ public class Main {
                         boolean encontrado = false;
                         for (Evento ev : eventoService.getEventos()) {
                             if (ev.getNome().equalsIgnoreCase(nomeCancel)) {
-                                usuarioAtual.cancelarEvento(ev);
-                                ev.removerParticipante(usuarioAtual);
-                                fileManager.salvarEventos(eventoService);
-                                fileManager.salvarUsuarios(usuarioService);
+                                fileManager.cancelarParticipacao(usuarioAtual, ev);
                                 System.out.println("Participação cancelada!");
                                 encontrado = true;
                                 break;
@@ -231,18 +340,23 @@ public class Main {
                         if (!encontrado) System.out.println("Evento não encontrado.");
                         break;
                     case 5:
-                        usuarioAtual.listarEventosParticipando();
+                        Usuario usuarioPaginado = usuarioAtual;
+                        paginar(scanner, "Seus eventos:", "Você não está participando de nenhum evento.",
+                                cursor -> eventoService.paginaEventosDoUsuario(usuarioPaginado, cursor, TAMANHO_PAGINA));
                         break;
                     case 6:
-                        eventoService.listarEventosEmAndamento();
+                        paginar(scanner, "Eventos em andamento:", "Não há eventos em andamento no momento.",
+                                cursor -> eventoService.paginaEventosOcorrendoAgora(cursor, TAMANHO_PAGINA));
                         break;
                     case 7:
-                        eventoService.listarEventosPassados();
+                        paginar(scanner, "Eventos passados:", "Não há eventos passados.",
+                                cursor -> eventoService.paginaEventosPassados(cursor, TAMANHO_PAGINA));
                         break;
                     case 8:
                         System.out.println("\n1. Buscar por nome");
                         System.out.println("2. Buscar por categoria");
                         System.out.println("3. Buscar por data");
+                        System.out.println("4. Busca combinada");
                         System.out.print("Escolha uma opção: ");
                         int opcaoBusca = Integer.parseInt(scanner.nextLine());
                         
@@ -250,55 +364,61 @@ public class Main {
                             case 1:
                                 System.out.print("Digite o nome do evento: ");
                                 String nomeBusca = scanner.nextLine();
-                                List<Evento> eventosNome = eventoService.buscarPorNome(nomeBusca);
-                                if (eventosNome.isEmpty()) {
-                                    System.out.println("Nenhum evento encontrado com esse nome.");
-                                } else {
-                                    System.out.println("\nEventos encontrados:");
-                                    eventosNome.forEach(System.out::println);
-                                }
+                                paginar(scanner, "Eventos encontrados:", "Nenhum evento encontrado com esse nome.",
+                                        cursor -> eventoService.paginaPorNome(nomeBusca, cursor, TAMANHO_PAGINA));
                                 break;
                             case 2:
                                 System.out.print("Digite a categoria (Festa, Show, Esporte, Outro): ");
-                                Categoria categoriaBusca = Categoria.valueOf(scanner.nextLine().toUpperCase());
-                                List<Evento> eventosCategoria = eventoService.buscarPorCategoria(categoriaBusca);
-                                if (eventosCategoria.isEmpty()) {
-                                    System.out.println("Nenhum evento encontrado nessa categoria.");
-                                } else {
-                                    System.out.println("\nEventos encontrados:");
-                                    eventosCategoria.forEach(System.out::println);
-                                }
+                                Categoria categoriaBusca = Validador.converterCategoria(scanner.nextLine().trim());
+                                paginar(scanner, "Eventos encontrados:", "Nenhum evento encontrado nessa categoria.",
+                                        cursor -> eventoService.paginaPorCategoria(categoriaBusca, cursor, TAMANHO_PAGINA));
                                 break;
                             case 3:
-                                String dataBusca;
+                                int dataBusca;
                                 do {
                                     System.out.print("Digite a data (dd/mm/aaaa): ");
-                                    dataBusca = scanner.nextLine().trim();
-                                    if (!validarData(dataBusca)) {
+                                    dataBusca = Validador.lerData(scanner.nextLine().trim());
+                                    if (dataBusca < 0) {
                                         System.out.println("Data inválida! Use o formato dd/mm/aaaa");
                                     }
-                                } while (!validarData(dataBusca));
+                                } while (dataBusca < 0);
                                 
-                                LocalDateTime dataBuscaConvertida = converterDataHora(dataBusca, "00:00");
-                                List<Evento> eventosData = eventoService.buscarPorData(dataBuscaConvertida);
-                                if (eventosData.isEmpty()) {
-                                    System.out.println("Nenhum evento encontrado nessa data.");
-                                } else {
-                                    System.out.println("\nEventos encontrados:");
-                                    eventosData.forEach(System.out::println);
-                                }
+                                LocalDateTime dataBuscaConvertida = Validador.converterDataHora(dataBusca, 0);
+                                paginar(scanner, "Eventos encontrados:", "Nenhum evento encontrado nessa data.",
+                                        cursor -> eventoService.paginaPorData(dataBuscaConvertida, cursor, TAMANHO_PAGINA));
+                                break;
+                            case 4:
+                                buscaCombinada(scanner, eventoService);
                                 break;
                             default:
                                 System.out.println("Opção inválida!");
                         }
                         break;
                     case 9:
-                        eventoService.verificarNotificacoes(usuarioAtual);
+                        LocalDateTime agoraNotificacoes = LocalDateTime.now();
+                        caixaNotificacoes.descartarEncerradas(usuarioAtual, agoraNotificacoes);
+                        Map<Evento, Notificacao> proximas = new LinkedHashMap<>();
+                        for (Notificacao n : caixaNotificacoes.getNotificacoes(usuarioAtual)) {
+                            if (n.getEvento().temParticipante(usuarioAtual)) {
+                                proximas.put(n.getEvento(), new Notificacao(usuarioAtual, n.getEvento(),
+                                        n.getAntecedencia(), agoraNotificacoes));
+                            }
+                        }
+                        if (proximas.isEmpty()) {
+                            System.out.println("Nenhuma notificação.");
+                        } else {
+                            CanalNotificacaoConsole console = new CanalNotificacaoConsole();
+                            proximas.values().stream()
+                                    .sorted(Comparator.comparing((Notificacao n) -> n.getEvento().getHorario()))
+                                    .forEach(console::enviar);
+                        }
                         break;
                     case 10:
                         System.out.println("\n1. Relatório de eventos");
                         System.out.println("2. Relatório de participação");
                         System.out.println("3. Relatório de categorias");
+                        System.out.println("4. Exportar relatório de usuários");
+                        System.out.println("5. Painel de eventos por semana");
                         System.out.print("Escolha uma opção: ");
                         int opcaoRelatorio = Integer.parseInt(scanner.nextLine());
                         
@@ -312,13 +432,67 @@ public class Main {
                             case 3:
                                 usuarioService.gerarRelatorioCategorias();
                                 break;
+                            case 4:
+                                System.out.print("Relatório (1 - Participação, 2 - Categorias): ");
+                                int tipoRelatorio = Integer.parseInt(scanner.nextLine());
+                                System.out.print("Formato (Texto, CSV ou JSONL): ");
+                                FormatoRelatorio formato = FormatoRelatorio.valueOf(scanner.nextLine().trim().toUpperCase());
+                                System.out.print("Arquivo de destino: ");
+                                String arquivo = scanner.nextLine().trim();
+                                System.out.print("Threads (1 para sequencial): ");
+                                int threads = Integer.parseInt(scanner.nextLine().trim());
+                                try (OutputStream saida = new FileOutputStream(arquivo)) {
+                                    if (tipoRelatorio == 1) {
+                                        usuarioService.gerarRelatorioParticipacao(saida, formato, threads);
+                                    } else {
+                                        usuarioService.gerarRelatorioCategorias(saida, formato, threads);
+                                    }
+                                    System.out.println("Relatório exportado para " + arquivo);
+                                } catch (IOException e) {
+                                    System.out.println("Erro ao exportar relatório: " + e.getMessage());
+                                }
+                                break;
+                            case 5:
+                                eventoService.gerarPainelEventos(12);
+                                break;
                             default:
                                 System.out.println("Opção inválida!");
                         }
                         break;
+                    case 11:
+                    case 12:
+                        System.out.print("Tipo (Usuarios, Eventos ou Participacoes): ");
+                        TipoRegistro tipoDados = TipoRegistro.valueOf(scanner.nextLine().trim().toUpperCase());
+                        System.out.print("Arquivo (.csv ou .jsonl): ");
+                        String arquivoDados = scanner.nextLine().trim();
+                        try {
+                            if (opcao == 11) {
+                                System.out.println(fileManager.importar(arquivoDados, tipoDados,
+                                        Runtime.getRuntime().availableProcessors()));
+                                System.out.println("Linhas rejeitadas em " + arquivoDados + ".rejeitados.csv");
+                            } else {
+                                long linhas = fileManager.exportar(arquivoDados, tipoDados);
+                                System.out.println(linhas + " linhas exportadas para " + arquivoDados);
+                            }
+                        } catch (IOException e) {
+                            System.out.println("Erro ao processar arquivo: " + e.getMessage());
+                        }
+                        break;
+                    case 13:
+                        System.out.println("\n=== Estatísticas de Desempenho ===");
+                        System.out.print(Metricas.relatorio());
+                        System.out.println("Cache de consultas: " + eventoService.getCache());
+                        System.out.print("Limpar estatísticas? (s/n): ");
+                        if (scanner.nextLine().trim().equalsIgnoreCase("s")) {
+                            Metricas.limpar();
+                            eventoService.getCache().zerarEstatisticas();
+                            System.out.println("Estatísticas zeradas.");
+                        }
+                        break;
                     case 0:
-                        fileManager.salvarEventos(eventoService);
-                        fileManager.salvarUsuarios(usuarioService);
+                        Metricas.pararDespejo();
+                        agendador.close();
+                        fileManager.fechar();
                         System.out.println("Saindo...");
                         break;
                     default:
@@ -0,0 +1,113 @@
+package benchmark;
+
+import model.Categoria;
+import model.Evento;
+import model.Usuario;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import service.EventoService;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class CacheConsultasBenchmark {
+    private static final Categoria[] CATEGORIAS = Categoria.values();
+
+    @Param({"100000", "1000000"})
+    public int eventos;
+
+    private EventoService comCache;
+    private EventoService semCache;
+    private List<Evento> lista;
+    private List<Usuario> usuarios;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        comCache = gerar();
+        semCache = gerar();
+        semCache.getCache().setAtivo(false);
+        GeradorDados gerador = new GeradorDados(7);
+        usuarios = gerador.usuarios(1024);
+        lista = comCache.getEventos();
+    }
+
+    private EventoService gerar() {
+        GeradorDados gerador = new GeradorDados(42);
+        EventoService eventoService = gerador.eventoService(eventos);
+        gerador.participacoes(eventoService, gerador.usuarioService(Math.max(1, eventos / 10)), 3);
+        return eventoService;
+    }
+
+    private Categoria proximaCategoria() {
+        cursor++;
+        return CATEGORIAS[cursor % CATEGORIAS.length];
+    }
+
+    @Benchmark
+    public List<Evento> eventosOrdenados() {
+        return comCache.eventosOrdenados();
+    }
+
+    @Benchmark
+    public List<Evento> eventosOrdenadosRecalculo() {
+        return semCache.eventosOrdenados();
+    }
+
+    @Benchmark
+    public List<Evento> eventosFuturos() {
+        return comCache.eventosFuturos();
+    }
+
+    @Benchmark
+    public List<Evento> eventosFuturosRecalculo() {
+        return semCache.eventosFuturos();
+    }
+
+    @Benchmark
+    public List<Evento> eventosOcorrendoAgora() {
+        return comCache.eventosOcorrendoAgora();
+    }
+
+    @Benchmark
+    public List<Evento> eventosOcorrendoAgoraRecalculo() {
+        return semCache.eventosOcorrendoAgora();
+    }
+
+    @Benchmark
+    public List<Evento> buscarPorCategoria() {
+        return comCache.buscarPorCategoria(proximaCategoria());
+    }
+
+    @Benchmark
+    public List<Evento> buscarPorCategoriaRecalculo() {
+        return semCache.buscarPorCategoria(proximaCategoria());
+    }
+
+    @Benchmark
+    public List<Evento> eventosFuturosAposParticipacao() {
+        cursor++;
+        Usuario usuario = usuarios.get(cursor & (usuarios.size() - 1));
+        Evento evento = lista.get((int) ((cursor * 2654435761L) % lista.size()));
+        if (!comCache.participar(usuario, evento)) {
+            comCache.cancelarParticipacao(usuario, evento);
+        }
+        return comCache.eventosFuturos();
+    }
+}
@@ -0,0 +1,148 @@
+package benchmark;
+
+import service.EventoService;
+import service.UsuarioService;
+import util.FileManager;
+import util.HistogramaLatencia;
+import util.ServidorApi;
+import util.Snapshot;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class CargaApi {
+    private static final String[] BUSCAS = {"rock", "jazz", "festival", "torneio", "samba", "dados", "feira"};
+
+    private final HttpClient cliente;
+    private final String base;
+    private final int eventos;
+    private final String[] tokens;
+    private final HistogramaLatencia latencias = new HistogramaLatencia();
+    private final LongAdder erros = new LongAdder();
+    private volatile boolean medindo;
+    private volatile boolean parar;
+
+    private CargaApi(HttpClient cliente, String base, int eventos, String[] tokens) {
+        this.cliente = cliente;
+        this.base = base;
+        this.eventos = eventos;
+        this.tokens = tokens;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String[] niveis = (args.length > 0 ? args[0] : "1000,10000").split(",");
+        int segundos = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int eventos = args.length > 2 ? Integer.parseInt(args[2]) : 10_000;
+
+        Path diretorio = Files.createTempDirectory("benchmark-api");
+        String snapshot = diretorio.resolve("dados.bin").toString();
+        GeradorDados gerador = new GeradorDados(42);
+        EventoService eventoService = gerador.eventoService(eventos);
+        UsuarioService usuarioService = gerador.usuarioService(eventos);
+        gerador.participacoes(eventoService, usuarioService, 3);
+        Snapshot.escrever(snapshot, eventoService, usuarioService);
+
+        FileManager fileManager = new FileManager(snapshot);
+        try (ServidorApi servidor = new ServidorApi(fileManager, 0, 4096)) {
+            servidor.iniciar();
+            String base = "http://localhost:" + servidor.getPorta();
+            HttpClient cliente = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(30)).build();
+            System.out.printf("%-10s %12s %10s %10s %10s %10s %10s %8s%n", "Clientes", "Requisições", "req/s",
+                    "p50 ms", "p99 ms", "p999 ms", "Máx ms", "Erros");
+            for (String nivel : niveis) {
+                int clientes = Integer.parseInt(nivel.trim());
+                CargaApi carga = new CargaApi(cliente, base, eventos, login(cliente, base, clientes, eventos));
+                carga.executar(clientes, segundos);
+            }
+        } finally {
+            fileManager.fechar();
+            for (File arquivo : diretorio.toFile().listFiles()) {
+                arquivo.delete();
+            }
+            diretorio.toFile().delete();
+        }
+    }
+
+    private static String[] login(HttpClient cliente, String base, int clientes, int usuarios) throws Exception {
+        String[] tokens = new String[clientes];
+        for (int i = 0; i < clientes; i++) {
+            HttpRequest requisicao = HttpRequest.newBuilder(URI.create(base + "/login"))
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"" + GeradorDados.email(i % usuarios) + "\"}"))
+                    .build();
+            String corpo = cliente.send(requisicao, HttpResponse.BodyHandlers.ofString()).body();
+            int inicio = corpo.indexOf("\"token\":\"") + 9;
+            tokens[i] = corpo.substring(inicio, corpo.indexOf('"', inicio));
+        }
+        return tokens;
+    }
+
+    private void executar(int clientes, int segundos) throws InterruptedException {
+        CountDownLatch encerrados = new CountDownLatch(clientes);
+        for (int i = 0; i < clientes; i++) {
+            enviar(i, new SplittableRandom(i), encerrados);
+        }
+        Thread.sleep(Math.max(1000, segundos * 250L));
+        latencias.limpar();
+        erros.reset();
+        medindo = true;
+        long inicio = System.nanoTime();
+        Thread.sleep(segundos * 1000L);
+        medindo = false;
+        double decorrido = (System.nanoTime() - inicio) / 1e9;
+        parar = true;
+        encerrados.await();
+        long total = latencias.getContagem();
+        System.out.printf("%-10d %12d %10.0f %10.3f %10.3f %10.3f %10.3f %8d%n", clientes, total, total / decorrido,
+                latencias.percentil(0.50) / 1e6, latencias.percentil(0.99) / 1e6, latencias.percentil(0.999) / 1e6,
+                latencias.getMaximo() / 1e6, erros.sum());
+    }
+
+    private void enviar(int indice, SplittableRandom aleatorio, CountDownLatch encerrados) {
+        if (parar) {
+            encerrados.countDown();
+            return;
+        }
+        HttpRequest requisicao = proximaRequisicao(indice, aleatorio);
+        long inicio = System.nanoTime();
+        cliente.sendAsync(requisicao, HttpResponse.BodyHandlers.discarding()).whenComplete((resposta, erro) -> {
+            if (medindo) {
+                latencias.registrar(System.nanoTime() - inicio);
+                if (erro != null || resposta.statusCode() >= 500) {
+                    erros.increment();
+                }
+            }
+            enviar(indice, aleatorio, encerrados);
+        });
+    }
+
+    private HttpRequest proximaRequisicao(int indice, SplittableRandom aleatorio) {
+        int sorteio = aleatorio.nextInt(100);
+        int evento = 1 + aleatorio.nextInt(eventos);
+        if (sorteio < 40) {
+            return HttpRequest.newBuilder(URI.create(base + "/eventos?limite=20&nome="
+                    + BUSCAS[aleatorio.nextInt(BUSCAS.length)])).build();
+        }
+        if (sorteio < 70) {
+            return HttpRequest.newBuilder(URI.create(base + "/eventos/" + evento)).build();
+        }
+        HttpRequest.Builder participacao = HttpRequest.newBuilder(URI.create(base + "/eventos/" + evento + "/participacao"))
+                .header("Authorization", "Bearer " + tokens[indice]);
+        if (sorteio < 85) {
+            return participacao.POST(HttpRequest.BodyPublishers.noBody()).build();
+        }
+        if (sorteio < 98) {
+            return participacao.DELETE().build();
+        }
+        return HttpRequest.newBuilder(URI.create(base + "/relatorios/eventos")).build();
+    }
+}
@@ -0,0 +1,106 @@
+package benchmark;
+
+import model.Categoria;
+import model.Evento;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import service.EventoService;
+import service.UsuarioService;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class EventoServiceBenchmark {
+    private static final int CONSULTAS = 1024;
+    private static final Categoria[] CATEGORIAS = Categoria.values();
+
+    @Param({"10000", "100000", "1000000"})
+    public int eventos;
+
+    @Param({"3"})
+    public int participacoesPorUsuario;
+
+    private EventoService eventoService;
+    private List<Evento> lista;
+    private final String[] nomes = new String[CONSULTAS];
+    private final LocalDateTime[] datas = new LocalDateTime[CONSULTAS];
+    private int cursor;
+    private PrintStream saidaOriginal;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        GeradorDados gerador = new GeradorDados(42);
+        eventoService = gerador.eventoService(eventos);
+        UsuarioService usuarioService = gerador.usuarioService(Math.max(1, eventos / 10));
+        gerador.participacoes(eventoService, usuarioService, participacoesPorUsuario);
+        lista = eventoService.getEventos();
+        for (int i = 0; i < CONSULTAS; i++) {
+            String nome = lista.get(gerador.proximo(eventos)).getNome();
+            nomes[i] = nome.substring(0, nome.indexOf(' ', nome.indexOf(" de ") + 4));
+            datas[i] = lista.get(gerador.proximo(eventos)).getHorario();
+        }
+        eventoService.buscarPorNome(nomes[0]);
+        saidaOriginal = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown(Level.Trial)
+    public void restaurar() {
+        System.setOut(saidaOriginal);
+    }
+
+    private int proximo() {
+        cursor = (cursor + 1) & (CONSULTAS - 1);
+        return cursor;
+    }
+
+    @Benchmark
+    public List<Evento> buscarPorNome() {
+        return eventoService.buscarPorNome(nomes[proximo()]);
+    }
+
+    @Benchmark
+    public List<Evento> buscarPorNomeVarredura() {
+        return Referencias.buscarEventosPorNome(lista, nomes[proximo()]);
+    }
+
+    @Benchmark
+    public List<Evento> buscarPorCategoria() {
+        return eventoService.buscarPorCategoria(CATEGORIAS[proximo() % CATEGORIAS.length]);
+    }
+
+    @Benchmark
+    public List<Evento> buscarPorData() {
+        return eventoService.buscarPorData(datas[proximo()]);
+    }
+
+    @Benchmark
+    public List<Evento> eventosFuturos() {
+        return eventoService.eventosFuturos();
+    }
+
+    @Benchmark
+    public void gerarRelatorioEventos() {
+        eventoService.gerarRelatorioEventos();
+    }
+}
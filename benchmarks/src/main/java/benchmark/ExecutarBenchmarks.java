@@ -0,0 +1,32 @@
+package benchmark;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+public final class ExecutarBenchmarks {
+    private static final String RESULTADO_PADRAO = "resultados-jmh.json";
+
+    private ExecutarBenchmarks() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions linha = new CommandLineOptions(args);
+        if (linha.shouldHelp() || linha.shouldList() || linha.shouldListWithParams()
+                || linha.shouldListProfilers() || linha.shouldListResultFormats()) {
+            Main.main(args);
+            return;
+        }
+        ChainedOptionsBuilder opcoes = new OptionsBuilder().parent(linha);
+        if (!linha.getResultFormat().hasValue()) {
+            opcoes.resultFormat(ResultFormatType.JSON);
+        }
+        if (!linha.getResult().hasValue()) {
+            opcoes.result(RESULTADO_PADRAO);
+        }
+        new Runner(opcoes.build()).run();
+    }
+}
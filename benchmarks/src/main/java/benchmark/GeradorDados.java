@@ -0,0 +1,110 @@
+package benchmark;
+
+import model.Categoria;
+import model.Evento;
+import model.Usuario;
+import service.EventoService;
+import service.UsuarioService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+public final class GeradorDados {
+    private static final String[] PREFIXOS = {"Festival", "Encontro", "Show", "Torneio", "Congresso", "Feira",
+            "Corrida", "Workshop", "Noite", "Semana"};
+    private static final String[] TEMAS = {"Rock", "Jazz", "Tecnologia", "Gastronomia", "Cinema", "Xadrez",
+            "Futebol", "Literatura", "Fotografia", "Samba", "Dados", "Vinhos"};
+    private static final String[] NOMES = {"Ana", "Bruno", "Carla", "Diego", "Elisa", "Fábio", "Gabriela",
+            "Heitor", "Isabela", "João", "Larissa", "Marcos", "Natália", "Otávio", "Paula", "Rafael"};
+    private static final String[] SOBRENOMES = {"Silva", "Souza", "Oliveira", "Santos", "Lima", "Pereira",
+            "Costa", "Almeida", "Ferreira", "Rodrigues"};
+    private static final int ENDERECOS = 500;
+    private static final Categoria[] CATEGORIAS = Categoria.values();
+
+    private final SplittableRandom aleatorio;
+    private final LocalDateTime referencia;
+    private final int diasPassados;
+    private final int diasFuturos;
+
+    public GeradorDados(long semente) {
+        this(semente, LocalDateTime.now().withSecond(0).withNano(0), 365, 365);
+    }
+
+    public GeradorDados(long semente, LocalDateTime referencia, int diasPassados, int diasFuturos) {
+        this.aleatorio = new SplittableRandom(semente);
+        this.referencia = referencia;
+        this.diasPassados = diasPassados;
+        this.diasFuturos = diasFuturos;
+    }
+
+    public Usuario usuario(int indice) {
+        String nome = NOMES[indice % NOMES.length] + " " + SOBRENOMES[(indice / NOMES.length) % SOBRENOMES.length]
+                + " " + indice;
+        String telefone = Long.toString(11_900_000_000L + aleatorio.nextInt(100_000_000));
+        return new Usuario(nome, email(indice), telefone);
+    }
+
+    public static String email(int indice) {
+        return "usuario" + indice + "@exemplo.com";
+    }
+
+    public Evento evento(int indice) {
+        String nome = PREFIXOS[aleatorio.nextInt(PREFIXOS.length)] + " de " + TEMAS[aleatorio.nextInt(TEMAS.length)]
+                + " " + indice;
+        String endereco = "Rua " + aleatorio.nextInt(ENDERECOS) + ", Centro";
+        int minutos = aleatorio.nextInt((diasPassados + diasFuturos) * 24 * 60) - diasPassados * 24 * 60;
+        int capacidade = aleatorio.nextInt(4) == 0 ? 10 + aleatorio.nextInt(200) : 0;
+        return new Evento(nome, endereco, CATEGORIAS[aleatorio.nextInt(CATEGORIAS.length)],
+                referencia.plusMinutes(minutos), "Descrição do evento " + indice, capacidade);
+    }
+
+    public List<Usuario> usuarios(int quantidade) {
+        List<Usuario> usuarios = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            usuarios.add(usuario(i));
+        }
+        return usuarios;
+    }
+
+    public List<Evento> eventos(int quantidade) {
+        List<Evento> eventos = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            eventos.add(evento(i));
+        }
+        return eventos;
+    }
+
+    public UsuarioService usuarioService(int quantidade) {
+        UsuarioService usuarioService = new UsuarioService();
+        usuarioService.adicionarUsuarios(usuarios(quantidade));
+        return usuarioService;
+    }
+
+    public EventoService eventoService(int quantidade) {
+        EventoService eventoService = new EventoService();
+        eventoService.adicionarEventos(eventos(quantidade));
+        return eventoService;
+    }
+
+    public long participacoes(EventoService eventoService, UsuarioService usuarioService, int porUsuario) {
+        List<Evento> eventos = eventoService.getEventos();
+        if (eventos.isEmpty()) {
+            return 0;
+        }
+        long confirmadas = 0;
+        for (Usuario usuario : usuarioService.getUsuarios()) {
+            for (int i = 0; i < porUsuario; i++) {
+                if (eventoService.participar(usuario, eventos.get(aleatorio.nextInt(eventos.size())))) {
+                    confirmadas++;
+                }
+            }
+        }
+        return confirmadas;
+    }
+
+    public int proximo(int limite) {
+        return aleatorio.nextInt(limite);
+    }
+}
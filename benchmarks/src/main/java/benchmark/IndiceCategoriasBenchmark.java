@@ -0,0 +1,93 @@
+package benchmark;
+
+import model.Categoria;
+import model.Evento;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import service.EventoService;
+import util.Pagina;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class IndiceCategoriasBenchmark {
+    private static final Categoria[] CATEGORIAS = Categoria.values();
+    private static final int TAMANHO_PAGINA = 20;
+
+    @Param({"1000000"})
+    public int eventos;
+
+    private EventoService eventoService;
+    private List<Evento> lista;
+    private String[] cursores;
+    private LocalDateTime inicio;
+    private LocalDateTime fim;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        GeradorDados gerador = new GeradorDados(42);
+        eventoService = gerador.eventoService(eventos);
+        lista = eventoService.getEventos();
+        cursores = new String[1024];
+        for (int i = 0; i < cursores.length; i++) {
+            cursores[i] = Integer.toString(gerador.proximo(eventos));
+        }
+        inicio = LocalDateTime.now().withNano(0).minusDays(3);
+        fim = inicio.plusDays(7);
+    }
+
+    private Categoria proximaCategoria() {
+        cursor++;
+        return CATEGORIAS[cursor % CATEGORIAS.length];
+    }
+
+    @Benchmark
+    public List<Evento> buscarPorCategoria() {
+        return eventoService.buscarPorCategoria(proximaCategoria());
+    }
+
+    @Benchmark
+    public List<Evento> buscarPorCategoriaVarredura() {
+        return Referencias.buscarPorCategoria(lista, proximaCategoria());
+    }
+
+    @Benchmark
+    public Map<Categoria, Long> contarPorCategoria() {
+        return eventoService.contarPorCategoria();
+    }
+
+    @Benchmark
+    public Map<Categoria, Long> contarPorCategoriaVarredura() {
+        return Referencias.contarPorCategoria(lista);
+    }
+
+    @Benchmark
+    public Pagina<Evento> paginaPorCategoria() {
+        Categoria categoria = proximaCategoria();
+        return eventoService.paginaPorCategoria(categoria, cursores[cursor & (cursores.length - 1)], TAMANHO_PAGINA);
+    }
+
+    @Benchmark
+    public List<Evento> consultaCategoriaNaFaixa() {
+        return eventoService.consulta().categoria(proximaCategoria()).entre(inicio, fim).executar();
+    }
+}
@@ -0,0 +1,83 @@
+package benchmark;
+
+import model.Categoria;
+import model.Evento;
+import model.Usuario;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import service.EventoService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ParticipacaoBenchmark {
+    private static final int USUARIOS = 1 << 20;
+
+    @State(Scope.Benchmark)
+    public static class Catalogo {
+        @Param({"0", "100"})
+        public int capacidade;
+
+        final EventoService eventoService = new EventoService();
+        final AtomicInteger proximaThread = new AtomicInteger();
+        Usuario[] usuarios;
+        Evento evento;
+
+        @Setup(Level.Trial)
+        public void prepararUsuarios() {
+            List<Usuario> lista = new GeradorDados(42).usuarios(USUARIOS);
+            usuarios = lista.toArray(new Usuario[0]);
+        }
+
+        @Setup(Level.Iteration)
+        public void prepararEvento() {
+            evento = new Evento("Evento", "Rua 1, Centro", Categoria.values()[0],
+                    LocalDateTime.now().plusDays(30), "Benchmark", capacidade);
+            eventoService.adicionarEvento(evento);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Participante {
+        int base;
+        int cursor;
+
+        @Setup(Level.Trial)
+        public void preparar(Catalogo catalogo) {
+            base = catalogo.proximaThread.getAndIncrement() * 1024;
+        }
+    }
+
+    @Benchmark
+    public boolean adicionarParticipante(Catalogo catalogo, Participante participante) {
+        Usuario usuario = catalogo.usuarios[participante.cursor++ & (USUARIOS - 1)];
+        return catalogo.evento.adicionarParticipante(usuario);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean participarECancelar(Catalogo catalogo, Participante participante) {
+        Usuario usuario = catalogo.usuarios[participante.base + (participante.cursor++ & 1023)];
+        boolean confirmado = catalogo.eventoService.participar(usuario, catalogo.evento);
+        catalogo.eventoService.cancelarParticipacao(usuario, catalogo.evento);
+        return confirmado;
+    }
+}
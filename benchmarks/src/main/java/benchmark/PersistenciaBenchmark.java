@@ -0,0 +1,151 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import service.EventoService;
+import service.UsuarioService;
+import util.FileManager;
+import util.Snapshot;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class PersistenciaBenchmark {
+    private static final long PILHA_SERIALIZACAO = 1L << 30;
+
+    @Param({"10000", "100000"})
+    public int eventos;
+
+    @Param({"3"})
+    public int participacoesPorUsuario;
+
+    private Path diretorio;
+    private String snapshot;
+    private String eventosSerializados;
+    private String usuariosSerializados;
+    private EventoService eventoService;
+    private UsuarioService usuarioService;
+    private FileManager fileManager;
+
+    @Setup(Level.Trial)
+    public void preparar() throws Exception {
+        diretorio = Files.createTempDirectory("benchmark-persistencia");
+        snapshot = diretorio.resolve("dados.bin").toString();
+        eventosSerializados = diretorio.resolve("events.data").toString();
+        usuariosSerializados = diretorio.resolve("users.data").toString();
+
+        GeradorDados gerador = new GeradorDados(42);
+        eventoService = gerador.eventoService(eventos);
+        usuarioService = gerador.usuarioService(eventos);
+        gerador.participacoes(eventoService, usuarioService, participacoesPorUsuario);
+        Snapshot.escrever(snapshot, eventoService, usuarioService);
+        serializar();
+
+        fileManager = new FileManager(snapshot);
+        fileManager.carregarEventos();
+        System.err.println("snapshot: " + new File(snapshot).length() + " bytes, serializado: "
+                + (new File(eventosSerializados).length() + new File(usuariosSerializados).length()) + " bytes");
+    }
+
+    @TearDown(Level.Trial)
+    public void limpar() throws IOException {
+        try (Stream<Path> arquivos = Files.walk(diretorio)) {
+            arquivos.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public void salvar() {
+        fileManager.salvar();
+    }
+
+    @Benchmark
+    public EventoService carregar() {
+        return new FileManager(snapshot).carregarEventos();
+    }
+
+    @Benchmark
+    public EventoService carregarMapeado() throws IOException {
+        EventoService eventos = new EventoService();
+        Snapshot.ler(snapshot, eventos, new UsuarioService(), true);
+        return eventos;
+    }
+
+    @Benchmark
+    public void salvarSerializado() throws Exception {
+        serializar();
+    }
+
+    @Benchmark
+    public Object carregarSerializado() throws Exception {
+        return emPilhaGrande(() -> {
+            Object eventos;
+            try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(eventosSerializados)))) {
+                eventos = in.readObject();
+            }
+            try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(usuariosSerializados)))) {
+                in.readObject();
+            }
+            return eventos;
+        });
+    }
+
+    private void serializar() throws Exception {
+        emPilhaGrande(() -> {
+            try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(eventosSerializados)))) {
+                out.writeObject(eventoService);
+            }
+            try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(usuariosSerializados)))) {
+                out.writeObject(usuarioService);
+            }
+            return null;
+        });
+    }
+
+    private static Object emPilhaGrande(Callable<Object> tarefa) throws Exception {
+        Object[] resultado = new Object[1];
+        Exception[] erro = new Exception[1];
+        Thread thread = new Thread(null, () -> {
+            try {
+                resultado[0] = tarefa.call();
+            } catch (Exception e) {
+                erro[0] = e;
+            }
+        }, "serializacao", PILHA_SERIALIZACAO);
+        thread.start();
+        thread.join();
+        if (erro[0] != null) {
+            throw erro[0];
+        }
+        return resultado[0];
+    }
+}
@@ -0,0 +1,90 @@
+package benchmark;
+
+import model.Categoria;
+import model.Evento;
+import model.Usuario;
+
+import java.io.PrintStream;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+final class Referencias {
+    private Referencias() {
+    }
+
+    static Usuario buscarPorEmail(List<Usuario> usuarios, String email) {
+        return usuarios.stream()
+                .filter(u -> u.getEmail().equalsIgnoreCase(email))
+                .findFirst()
+                .orElse(null);
+    }
+
+    static List<Usuario> buscarUsuariosPorNome(List<Usuario> usuarios, String nome) {
+        return usuarios.stream()
+                .filter(u -> u.getNome().toLowerCase().contains(nome.toLowerCase()))
+                .collect(Collectors.toList());
+    }
+
+    static List<Evento> buscarEventosPorNome(List<Evento> eventos, String nome) {
+        return eventos.stream()
+                .filter(e -> e.getNome().toLowerCase().contains(nome.toLowerCase()))
+                .collect(Collectors.toList());
+    }
+
+    static List<Evento> buscarPorCategoria(List<Evento> eventos, Categoria categoria) {
+        return eventos.stream()
+                .filter(e -> e.getCategoria() == categoria)
+                .collect(Collectors.toList());
+    }
+
+    static Map<Categoria, Long> contarPorCategoria(List<Evento> eventos) {
+        return eventos.stream()
+                .collect(Collectors.groupingBy(Evento::getCategoria, Collectors.counting()));
+    }
+
+    static long contarEntre(List<Evento> eventos, LocalDateTime inicio, LocalDateTime fim) {
+        return eventos.stream()
+                .filter(e -> !e.getHorario().isBefore(inicio) && e.getHorario().isBefore(fim))
+                .count();
+    }
+
+    static List<Evento> maisParticipantes(List<Evento> eventos, int k) {
+        return eventos.stream()
+                .sorted(Comparator.comparingInt(Evento::getTotalParticipantes).reversed())
+                .limit(k)
+                .collect(Collectors.toList());
+    }
+
+    static void relatorioParticipacao(PrintStream saida, List<Usuario> usuarios) {
+        saida.println("\n=== Relatório de Participação em Eventos ===");
+        for (Usuario usuario : usuarios) {
+            saida.println("\nUsuário: " + usuario.getNome());
+            saida.println("E-mail: " + usuario.getEmail());
+            saida.println("Total de eventos confirmados: " + usuario.getTotalEventosConfirmados());
+
+            if (!usuario.getEventosConfirmados().isEmpty()) {
+                saida.println("\nEventos confirmados:");
+                usuario.getEventosConfirmados().forEach(evento ->
+                        saida.println("- " + evento.getNome() + " (" + evento.getCategoria() + ")")
+                );
+            }
+            saida.println("----------------------------------------");
+        }
+    }
+
+    static void relatorioCategorias(PrintStream saida, List<Usuario> usuarios) {
+        saida.println("\n=== Relatório de Preferências por Categoria ===");
+        for (Usuario usuario : usuarios) {
+            saida.println("\nUsuário: " + usuario.getNome());
+            usuario.getEventosConfirmados().stream()
+                    .collect(Collectors.groupingBy(Evento::getCategoria, Collectors.counting()))
+                    .forEach((categoria, quantidade) ->
+                            saida.println(categoria + ": " + quantidade + " eventos")
+                    );
+            saida.println("----------------------------------------");
+        }
+    }
+}
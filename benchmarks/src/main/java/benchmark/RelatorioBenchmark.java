@@ -0,0 +1,83 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import service.EventoService;
+import service.FormatoRelatorio;
+import service.UsuarioService;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class RelatorioBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Dados {
+        @Param({"100000"})
+        public int usuarios;
+
+        @Param({"5"})
+        public int participacoesPorUsuario;
+
+        UsuarioService usuarioService;
+        PrintStream console;
+
+        @Setup(Level.Trial)
+        public void preparar() {
+            GeradorDados gerador = new GeradorDados(42);
+            EventoService eventoService = gerador.eventoService(Math.max(1, usuarios / 10));
+            usuarioService = gerador.usuarioService(usuarios);
+            gerador.participacoes(eventoService, usuarioService, participacoesPorUsuario);
+            console = new PrintStream(new BufferedOutputStream(OutputStream.nullOutputStream(), 128), true);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Configuracao {
+        @Param({"1", "2", "4", "8"})
+        public int paralelismo;
+
+        @Param({"TEXTO", "CSV"})
+        public FormatoRelatorio formato;
+    }
+
+    @Benchmark
+    public void relatorioParticipacao(Dados dados, Configuracao configuracao) throws IOException {
+        dados.usuarioService.gerarRelatorioParticipacao(OutputStream.nullOutputStream(), configuracao.formato,
+                configuracao.paralelismo);
+    }
+
+    @Benchmark
+    public void relatorioCategorias(Dados dados, Configuracao configuracao) throws IOException {
+        dados.usuarioService.gerarRelatorioCategorias(OutputStream.nullOutputStream(), configuracao.formato,
+                configuracao.paralelismo);
+    }
+
+    @Benchmark
+    public void relatorioParticipacaoPrintln(Dados dados) {
+        Referencias.relatorioParticipacao(dados.console, dados.usuarioService.getUsuarios());
+    }
+
+    @Benchmark
+    public void relatorioCategoriasPrintln(Dados dados) {
+        Referencias.relatorioCategorias(dados.console, dados.usuarioService.getUsuarios());
+    }
+}
@@ -0,0 +1,110 @@
+package benchmark;
+
+import model.Categoria;
+import model.Evento;
+import model.Usuario;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import service.EventoService;
+import service.TabelaEventos;
+import service.UsuarioService;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class TabelaEventosBenchmark {
+    private static final int TOPO = 5;
+
+    @Param({"100000", "1000000"})
+    public int eventos;
+
+    private EventoService eventoService;
+    private List<Evento> lista;
+    private List<Usuario> usuarios;
+    private TabelaEventos tabela;
+    private LocalDateTime inicio;
+    private LocalDateTime fim;
+    private long inicioSegundos;
+    private long fimSegundos;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        GeradorDados gerador = new GeradorDados(42);
+        eventoService = gerador.eventoService(eventos);
+        UsuarioService usuarioService = gerador.usuarioService(Math.max(1, eventos / 10));
+        gerador.participacoes(eventoService, usuarioService, 3);
+        lista = eventoService.getEventos();
+        usuarios = usuarioService.getUsuarios();
+        tabela = eventoService.tabelaColunar();
+        inicio = LocalDateTime.now().withNano(0).minusDays(30);
+        fim = inicio.plusDays(60);
+        inicioSegundos = inicio.toEpochSecond(ZoneOffset.UTC);
+        fimSegundos = fim.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    @Benchmark
+    public long[] contarPorCategoria() {
+        return tabela.contarPorCategoria();
+    }
+
+    @Benchmark
+    public Map<Categoria, Long> contarPorCategoriaStream() {
+        return Referencias.contarPorCategoria(lista);
+    }
+
+    @Benchmark
+    public int contarEntre() {
+        return tabela.contarEntre(inicioSegundos, fimSegundos);
+    }
+
+    @Benchmark
+    public long contarEntreStream() {
+        return Referencias.contarEntre(lista, inicio, fim);
+    }
+
+    @Benchmark
+    public int[] maisParticipantes() {
+        return tabela.maisParticipantes(TOPO);
+    }
+
+    @Benchmark
+    public List<Evento> maisParticipantesStream() {
+        return Referencias.maisParticipantes(lista, TOPO);
+    }
+
+    @Benchmark
+    public int[] histogramaPorCategoria() {
+        return tabela.histogramaPorCategoria(inicioSegundos, 24 * 60 * 60, 60);
+    }
+
+    @Benchmark
+    public TabelaEventos atualizarAposParticipacao() {
+        cursor++;
+        Usuario usuario = usuarios.get(cursor % usuarios.size());
+        Evento evento = lista.get((int) ((cursor * 2654435761L) % lista.size()));
+        if (!eventoService.participar(usuario, evento)) {
+            eventoService.cancelarParticipacao(usuario, evento);
+        }
+        return eventoService.tabelaColunar();
+    }
+}
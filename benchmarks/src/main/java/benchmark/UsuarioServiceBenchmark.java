@@ -0,0 +1,79 @@
+package benchmark;
+
+import model.Usuario;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import service.UsuarioService;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class UsuarioServiceBenchmark {
+    private static final int CONSULTAS = 1024;
+
+    @Param({"10000", "100000", "1000000"})
+    public int usuarios;
+
+    private UsuarioService usuarioService;
+    private List<Usuario> lista;
+    private final String[] emails = new String[CONSULTAS];
+    private final String[] nomes = new String[CONSULTAS];
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        GeradorDados gerador = new GeradorDados(42);
+        usuarioService = gerador.usuarioService(usuarios);
+        lista = usuarioService.getUsuarios();
+        for (int i = 0; i < CONSULTAS; i++) {
+            String email = GeradorDados.email(gerador.proximo(usuarios));
+            emails[i] = i % 2 == 0 ? email : email.toUpperCase(Locale.ROOT);
+            String nome = lista.get(gerador.proximo(usuarios)).getNome();
+            int inicio = gerador.proximo(Math.max(1, nome.length() - 8));
+            nomes[i] = nome.substring(inicio, Math.min(nome.length(), inicio + 8));
+        }
+        usuarioService.buscarPorNome(nomes[0]);
+    }
+
+    private int proximo() {
+        cursor = (cursor + 1) & (CONSULTAS - 1);
+        return cursor;
+    }
+
+    @Benchmark
+    public Usuario buscarPorEmail() {
+        return usuarioService.buscarPorEmail(emails[proximo()]);
+    }
+
+    @Benchmark
+    public Usuario buscarPorEmailVarredura() {
+        return Referencias.buscarPorEmail(lista, emails[proximo()]);
+    }
+
+    @Benchmark
+    public List<Usuario> buscarPorNome() {
+        return usuarioService.buscarPorNome(nomes[proximo()]);
+    }
+
+    @Benchmark
+    public List<Usuario> buscarPorNomeVarredura() {
+        return Referencias.buscarUsuariosPorNome(lista, nomes[proximo()]);
+    }
+}
@@ -0,0 +1,131 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import util.Validador;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidadorBenchmark {
+    private static final int ENTRADAS = 1024;
+
+    private final String[] emails = new String[ENTRADAS];
+    private final String[] telefones = new String[ENTRADAS];
+    private final String[] datas = new String[ENTRADAS];
+    private final String[] horas = new String[ENTRADAS];
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        SplittableRandom aleatorio = new SplittableRandom(42);
+        for (int i = 0; i < ENTRADAS; i++) {
+            boolean valida = aleatorio.nextInt(4) != 0;
+            emails[i] = valida ? GeradorDados.email(i) : "usuario" + i + "exemplo.com";
+            telefones[i] = valida ? "(11) 9" + (10_000_000 + aleatorio.nextInt(90_000_000)) : "11-" + i;
+            datas[i] = String.format("%02d/%02d/%04d", 1 + aleatorio.nextInt(valida ? 28 : 35),
+                    1 + aleatorio.nextInt(valida ? 12 : 14), 2000 + aleatorio.nextInt(50));
+            horas[i] = String.format("%02d:%02d", aleatorio.nextInt(valida ? 24 : 30), aleatorio.nextInt(60));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTRADAS)
+    public void email(Blackhole buraco) {
+        for (String email : emails) {
+            buraco.consume(Validador.validarEmail(email));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTRADAS)
+    public void emailRegex(Blackhole buraco) {
+        for (String email : emails) {
+            buraco.consume(ValidadorRegex.validarEmail(email));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTRADAS)
+    public void telefone(Blackhole buraco) {
+        for (String telefone : telefones) {
+            buraco.consume(Validador.validarTelefone(telefone));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTRADAS)
+    public void telefoneRegex(Blackhole buraco) {
+        for (String telefone : telefones) {
+            buraco.consume(ValidadorRegex.validarTelefone(telefone));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTRADAS)
+    public void data(Blackhole buraco) {
+        for (String data : datas) {
+            buraco.consume(Validador.validarData(data));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTRADAS)
+    public void dataRegex(Blackhole buraco) {
+        for (String data : datas) {
+            buraco.consume(ValidadorRegex.validarData(data));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTRADAS)
+    public void hora(Blackhole buraco) {
+        for (String hora : horas) {
+            buraco.consume(Validador.validarHora(hora));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTRADAS)
+    public void horaRegex(Blackhole buraco) {
+        for (String hora : horas) {
+            buraco.consume(ValidadorRegex.validarHora(hora));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTRADAS)
+    public void converterDataHora(Blackhole buraco) {
+        for (int i = 0; i < ENTRADAS; i++) {
+            if (Validador.validarData(datas[i]) && Validador.validarHora(horas[i])) {
+                buraco.consume(Validador.converterDataHora(datas[i], horas[i]));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTRADAS)
+    public void converterDataHoraRegex(Blackhole buraco) {
+        for (int i = 0; i < ENTRADAS; i++) {
+            if (ValidadorRegex.validarData(datas[i]) && ValidadorRegex.validarHora(horas[i])) {
+                buraco.consume(ValidadorRegex.converterDataHora(datas[i], horas[i]));
+            }
+        }
+    }
+}
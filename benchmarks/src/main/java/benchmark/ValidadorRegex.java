@@ -0,0 +1,58 @@
+package benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.regex.Pattern;
+
+final class ValidadorRegex {
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
+    private static final Pattern PHONE_PATTERN = Pattern.compile("^\\d{10,11}$");
+    private static final Pattern DATE_PATTERN = Pattern.compile("^\\d{2}/\\d{2}/\\d{4}$");
+    private static final Pattern TIME_PATTERN = Pattern.compile("^([01]?[0-9]|2[0-3]):[0-5][0-9]$");
+    private static final Pattern CAPACITY_PATTERN = Pattern.compile("^\\d{1,9}$");
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
+    private ValidadorRegex() {
+    }
+
+    static boolean validarEmail(String email) {
+        return EMAIL_PATTERN.matcher(email).matches();
+    }
+
+    static boolean validarTelefone(String telefone) {
+        return PHONE_PATTERN.matcher(telefone.replaceAll("[^0-9]", "")).matches();
+    }
+
+    static boolean validarData(String data) {
+        return lerData(data) != null;
+    }
+
+    static LocalDate lerData(String data) {
+        if (!DATE_PATTERN.matcher(data).matches()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(data, DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    static boolean validarHora(String hora) {
+        return TIME_PATTERN.matcher(hora).matches();
+    }
+
+    static boolean validarCapacidade(String capacidade) {
+        return CAPACITY_PATTERN.matcher(capacidade).matches();
+    }
+
+    static LocalDateTime converterDataHora(String data, String hora) {
+        LocalDate dataEvento = LocalDate.parse(data, DATE_FORMATTER);
+        LocalTime horaEvento = LocalTime.parse(hora, TIME_FORMATTER);
+        return LocalDateTime.of(dataEvento, horaEvento);
+    }
+}
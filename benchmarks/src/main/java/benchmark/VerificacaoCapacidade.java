@@ -0,0 +1,146 @@
+package benchmark;
+
+import model.Categoria;
+import model.Evento;
+import model.Usuario;
+import service.EventoService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+public final class VerificacaoCapacidade {
+    private long casos;
+    private long divergencias;
+
+    private VerificacaoCapacidade() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int rodadas = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        VerificacaoCapacidade verificacao = new VerificacaoCapacidade();
+        for (int rodada = 0; rodada < rodadas; rodada++) {
+            int capacidade = 1 + rodada % 25;
+            verificacao.rajada(threads, capacidade, capacidade + 1 + rodada % 40);
+        }
+        System.out.println("Casos: " + verificacao.casos + ", divergências: " + verificacao.divergencias);
+        if (verificacao.divergencias > 0) {
+            System.exit(1);
+        }
+    }
+
+    private void rajada(int threads, int capacidade, int interessados) throws InterruptedException {
+        EventoService eventoService = new EventoService();
+        Evento evento = new Evento("Evento com vagas", "Rua 1, Centro", Categoria.Show,
+                LocalDateTime.now().plusDays(1), "Rajada de confirmações", capacidade);
+        eventoService.adicionarEvento(evento);
+        List<Usuario> usuarios = new ArrayList<>();
+        for (int i = 0; i < interessados; i++) {
+            usuarios.add(new Usuario("Usuário " + i, GeradorDados.email(i), "11999999999"));
+        }
+
+        AtomicBoolean excedeu = new AtomicBoolean();
+        AtomicBoolean rodando = new AtomicBoolean(true);
+        Thread vigia = new Thread(() -> {
+            while (rodando.get()) {
+                if (evento.getTotalParticipantes() > capacidade) {
+                    excedeu.set(true);
+                }
+            }
+        });
+        vigia.start();
+
+        AtomicInteger confirmados = new AtomicInteger();
+        executar(threads, interessados, i -> {
+            if (eventoService.participar(usuarios.get(i), evento)) {
+                confirmados.incrementAndGet();
+            }
+        });
+        verificar("confirmações aceitas = capacidade", capacidade, confirmados.get());
+        verificar("participantes = capacidade", capacidade, evento.getTotalParticipantes());
+        verificar("lista de espera = excedentes", interessados - capacidade, evento.getListaDeEspera().size());
+
+        List<Usuario> participantes = evento.getParticipantes();
+        int cancelamentos = Math.min(participantes.size(), 1 + interessados / 3);
+        executar(threads, cancelamentos, i -> eventoService.cancelarParticipacao(participantes.get(i), evento));
+        int esperaAntes = interessados - capacidade;
+        int promovidos = Math.min(cancelamentos, esperaAntes);
+        verificar("participantes após cancelamentos", capacidade - cancelamentos + promovidos,
+                evento.getTotalParticipantes());
+        verificar("lista de espera após promoções", esperaAntes - promovidos, evento.getListaDeEspera().size());
+
+        rodando.set(false);
+        vigia.join();
+        verificar("capacidade nunca excedida", false, excedeu.get());
+
+        Set<Usuario> unicos = new HashSet<>(evento.getParticipantes());
+        unicos.addAll(evento.getListaDeEspera());
+        verificar("participante e espera disjuntos", evento.getTotalParticipantes() + evento.getListaDeEspera().size(),
+                unicos.size());
+        for (Usuario usuario : evento.getParticipantes()) {
+            verificar("evento na agenda do participante", true, usuario.getEventosConfirmados().contains(evento));
+        }
+        mistura(threads, evento, usuarios, capacidade);
+    }
+
+    private void mistura(int threads, Evento evento, List<Usuario> usuarios, int capacidade)
+            throws InterruptedException {
+        int operacoes = usuarios.size() * 50;
+        executar(threads, operacoes, i -> {
+            int sorteio = (int) ((i * 2654435761L) >>> 8) & 0xFFFF;
+            Usuario usuario = usuarios.get(sorteio % usuarios.size());
+            if (sorteio % 3 == 0) {
+                if (evento.removerParticipante(usuario)) {
+                    usuario.cancelarEvento(evento);
+                } else {
+                    evento.sairDaListaDeEspera(usuario);
+                }
+            } else if (evento.adicionarParticipante(usuario)) {
+                usuario.participarEvento(evento);
+            }
+        });
+        int participantes = evento.getTotalParticipantes();
+        verificar("capacidade respeitada na mistura", true, participantes <= capacidade);
+        verificar("sem vaga livre com lista de espera", true,
+                participantes == capacidade || evento.getListaDeEspera().isEmpty());
+    }
+
+    private static void executar(int threads, int tarefas, IntConsumer tarefa)
+            throws InterruptedException {
+        CountDownLatch largada = new CountDownLatch(1);
+        AtomicInteger proxima = new AtomicInteger();
+        List<Thread> trabalhadores = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread trabalhador = new Thread(() -> {
+                try {
+                    largada.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = proxima.getAndIncrement(); i < tarefas; i = proxima.getAndIncrement()) {
+                    tarefa.accept(i);
+                }
+            });
+            trabalhador.start();
+            trabalhadores.add(trabalhador);
+        }
+        largada.countDown();
+        for (Thread trabalhador : trabalhadores) {
+            trabalhador.join();
+        }
+    }
+
+    private void verificar(String descricao, Object esperado, Object obtido) {
+        casos++;
+        if (!esperado.equals(obtido) && divergencias++ < 20) {
+            System.out.println("Divergência em " + descricao + ": esperado " + esperado + ", obtido " + obtido);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package benchmark;
+
+import model.Evento;
+import model.Usuario;
+import service.EventoService;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class VerificacaoConcorrencia {
+    private static final int EVENTOS = 40;
+    private static final int USUARIOS = 400;
+    private long casos;
+    private long divergencias;
+
+    private VerificacaoConcorrencia() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int operacoes = args.length > 0 ? Integer.parseInt(args[0]) : 400_000;
+        int maximoThreads = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        VerificacaoConcorrencia verificacao = new VerificacaoConcorrencia();
+        for (int threads = 1; threads <= maximoThreads; threads *= 2) {
+            verificacao.rodada(threads, operacoes);
+        }
+        System.out.println("Casos: " + verificacao.casos + ", divergências: " + verificacao.divergencias);
+        if (verificacao.divergencias > 0) {
+            System.exit(1);
+        }
+    }
+
+    private void rodada(int threads, int operacoes) throws InterruptedException {
+        GeradorDados gerador = new GeradorDados(threads);
+        EventoService eventoService = gerador.eventoService(EVENTOS);
+        List<Evento> eventos = eventoService.getEventos();
+        List<Usuario> usuarios = gerador.usuarios(USUARIOS);
+
+        AtomicBoolean rodando = new AtomicBoolean(true);
+        AtomicBoolean duplicadoVisto = new AtomicBoolean();
+        AtomicBoolean excessoVisto = new AtomicBoolean();
+        AtomicLong leituras = new AtomicLong();
+        Thread leitor = new Thread(() -> {
+            while (rodando.get()) {
+                for (Evento evento : eventos) {
+                    List<Usuario> participantes = evento.getParticipantes();
+                    if (new HashSet<>(participantes).size() != participantes.size()) {
+                        duplicadoVisto.set(true);
+                    }
+                    if (evento.getCapacidade() > 0 && participantes.size() > evento.getCapacidade()) {
+                        excessoVisto.set(true);
+                    }
+                    leituras.incrementAndGet();
+                }
+            }
+        });
+
+        AtomicLong confirmacoes = new AtomicLong();
+        AtomicLong cancelamentos = new AtomicLong();
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Thread> trabalhadores = new ArrayList<>();
+        SplittableRandom raiz = new SplittableRandom(threads);
+        for (int t = 0; t < threads; t++) {
+            SplittableRandom aleatorio = raiz.split();
+            int cota = operacoes / threads + (t < operacoes % threads ? 1 : 0);
+            Thread trabalhador = new Thread(() -> {
+                try {
+                    largada.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < cota; i++) {
+                    Usuario usuario = usuarios.get(aleatorio.nextInt(usuarios.size()));
+                    Evento evento = eventos.get(aleatorio.nextInt(eventos.size()));
+                    if (aleatorio.nextInt(5) < 3) {
+                        if (eventoService.participar(usuario, evento)) {
+                            confirmacoes.incrementAndGet();
+                        }
+                    } else if (eventoService.cancelarParticipacao(usuario, evento)) {
+                        cancelamentos.incrementAndGet();
+                    }
+                }
+            });
+            trabalhador.start();
+            trabalhadores.add(trabalhador);
+        }
+        leitor.start();
+        long inicio = System.nanoTime();
+        largada.countDown();
+        for (Thread trabalhador : trabalhadores) {
+            trabalhador.join();
+        }
+        long nanos = System.nanoTime() - inicio;
+        rodando.set(false);
+        leitor.join();
+
+        System.out.printf("Threads: %d, operações: %d, tempo: %.1f ms, vazão: %.0f ops/s, "
+                        + "confirmações: %d, cancelamentos: %d, leituras concorrentes: %d%n",
+                threads, operacoes, nanos / 1e6, operacoes / (nanos / 1e9), confirmacoes.get(),
+                cancelamentos.get(), leituras.get());
+        verificar("leitor viu participante duplicado", false, duplicadoVisto.get());
+        verificar("leitor viu capacidade excedida", false, excessoVisto.get());
+        consistencia(eventos, usuarios);
+    }
+
+    private void consistencia(List<Evento> eventos, List<Usuario> usuarios) {
+        Map<Usuario, Set<Evento>> agendas = new HashMap<>();
+        long arestasUsuarios = 0;
+        for (Usuario usuario : usuarios) {
+            List<Evento> confirmados = usuario.getEventosConfirmados();
+            Set<Evento> agenda = new HashSet<>(confirmados);
+            verificar("agenda sem eventos duplicados", confirmados.size(), agenda.size());
+            verificar("total de eventos confirmados", confirmados.size(), usuario.getTotalEventosConfirmados());
+            for (Evento evento : agenda) {
+                verificar("evento da agenda tem o participante", true, evento.temParticipante(usuario));
+            }
+            agendas.put(usuario, agenda);
+            arestasUsuarios += confirmados.size();
+        }
+        long arestasEventos = 0;
+        for (Evento evento : eventos) {
+            List<Usuario> participantes = evento.getParticipantes();
+            List<Usuario> espera = evento.getListaDeEspera();
+            Set<Usuario> unicos = new HashSet<>(participantes);
+            verificar("participantes sem duplicatas", participantes.size(), unicos.size());
+            verificar("total de participantes", participantes.size(), evento.getTotalParticipantes());
+            verificar("lista de espera sem duplicatas", espera.size(), new HashSet<>(espera).size());
+            unicos.addAll(espera);
+            verificar("participante e espera disjuntos", participantes.size() + espera.size(), unicos.size());
+            if (evento.getCapacidade() > 0) {
+                verificar("capacidade respeitada", true, participantes.size() <= evento.getCapacidade());
+                verificar("sem vaga livre com lista de espera", true,
+                        participantes.size() == evento.getCapacidade() || espera.isEmpty());
+            } else {
+                verificar("sem lista de espera sem limite", 0, espera.size());
+            }
+            for (Usuario usuario : participantes) {
+                Set<Evento> agenda = agendas.get(usuario);
+                verificar("participante tem o evento na agenda", true, agenda != null && agenda.contains(evento));
+            }
+            arestasEventos += participantes.size();
+        }
+        verificar("arestas iguais nos dois lados", arestasEventos, arestasUsuarios);
+    }
+
+    private void verificar(String descricao, Object esperado, Object obtido) {
+        casos++;
+        if (!esperado.equals(obtido) && divergencias++ < 20) {
+            System.out.println("Divergência em " + descricao + ": esperado " + esperado + ", obtido " + obtido);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package benchmark;
+
+import model.Categoria;
+import model.Evento;
+import service.ConsultaEventos;
+import service.EventoService;
+import service.OrdemConsulta;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+public final class VerificacaoConsultas {
+    private static final String[] TERMOS = {"rock", "JAZZ", "festival de", "de ", "torneio de xadrez", "ro", "1",
+            "12", "999", "semana de dados", "zzz", "noite de samba 1", "workshop", "e"};
+    private static final String[] ENDERECOS = {"rua 1", "Rua 42,", "centro", "rua 4", "praia"};
+    private static final int[] TAMANHOS = {0, 1, 37, 2_000, 20_000};
+
+    private final LocalDateTime referencia = LocalDateTime.now().withSecond(0).withNano(0);
+    private final Map<String, Long> planos = new TreeMap<>();
+    private long casos;
+    private long divergencias;
+
+    private VerificacaoConsultas() {
+    }
+
+    public static void main(String[] args) {
+        int consultas = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        long semente = args.length > 1 ? Long.parseLong(args[1]) : 1;
+        VerificacaoConsultas verificacao = new VerificacaoConsultas();
+        SplittableRandom aleatorio = new SplittableRandom(semente);
+        for (int tamanho : TAMANHOS) {
+            for (int dias : new int[]{1, 365}) {
+                GeradorDados gerador = new GeradorDados(aleatorio.nextLong(), verificacao.referencia, dias, dias);
+                EventoService eventoService = gerador.eventoService(tamanho);
+                gerador.participacoes(eventoService, gerador.usuarioService(Math.max(1, tamanho / 4)), 5);
+                for (int i = 0; i < consultas; i++) {
+                    verificacao.verificar(eventoService, aleatorio, dias);
+                }
+            }
+        }
+        verificacao.planos.forEach((plano, vezes) -> System.out.println(plano + ": " + vezes));
+        System.out.println("Casos: " + verificacao.casos + ", divergências: " + verificacao.divergencias);
+        if (verificacao.divergencias > 0) {
+            System.exit(1);
+        }
+    }
+
+    private void verificar(EventoService eventoService, SplittableRandom aleatorio, int dias) {
+        ConsultaEventos consulta = eventoService.consulta();
+        StringBuilder descricao = new StringBuilder();
+        Categoria categoria = null;
+        LocalDateTime inicio = null;
+        LocalDateTime fim = null;
+        String nome = null;
+        String endereco = null;
+        int minimo = 0;
+        int maximo = Integer.MAX_VALUE;
+        OrdemConsulta ordem = OrdemConsulta.values()[aleatorio.nextInt(OrdemConsulta.values().length)];
+        int limite = Integer.MAX_VALUE;
+
+        if (aleatorio.nextInt(3) == 0) {
+            categoria = Categoria.values()[aleatorio.nextInt(Categoria.values().length)];
+            consulta.categoria(categoria);
+            descricao.append(" categoria=").append(categoria);
+        }
+        if (aleatorio.nextInt(2) == 0) {
+            inicio = horario(aleatorio, dias);
+            consulta.aPartirDe(inicio);
+            descricao.append(" inicio=").append(inicio);
+        }
+        if (aleatorio.nextInt(2) == 0) {
+            fim = aleatorio.nextInt(4) == 0 && inicio != null
+                    ? inicio.plusMinutes(aleatorio.nextInt(120)) : horario(aleatorio, dias);
+            consulta.ate(fim);
+            descricao.append(" fim=").append(fim);
+        }
+        if (aleatorio.nextInt(2) == 0) {
+            nome = TERMOS[aleatorio.nextInt(TERMOS.length)];
+            consulta.nomeContem(nome);
+            descricao.append(" nome=").append(nome);
+        }
+        if (aleatorio.nextInt(5) == 0) {
+            endereco = ENDERECOS[aleatorio.nextInt(ENDERECOS.length)];
+            consulta.enderecoContem(endereco);
+            descricao.append(" endereco=").append(endereco);
+        }
+        if (aleatorio.nextInt(4) == 0) {
+            minimo = aleatorio.nextInt(4);
+            consulta.minimoParticipantes(minimo);
+            descricao.append(" minimo=").append(minimo);
+        }
+        if (aleatorio.nextInt(4) == 0) {
+            maximo = aleatorio.nextInt(6);
+            consulta.maximoParticipantes(maximo);
+            descricao.append(" maximo=").append(maximo);
+        }
+        if (aleatorio.nextInt(3) != 0) {
+            limite = 1 + aleatorio.nextInt(aleatorio.nextBoolean() ? 10 : 500);
+            consulta.limite(limite);
+            descricao.append(" limite=").append(limite);
+        }
+        consulta.ordenarPor(ordem);
+        descricao.append(" ordem=").append(ordem);
+
+        List<Evento> obtido = consulta.executar();
+        String plano = consulta.explicar().replaceAll("\\d+", "n");
+        planos.merge(plano, 1L, Long::sum);
+
+        List<Evento> eventos = eventoService.getEventos();
+        List<Integer> aceitos = new ArrayList<>();
+        for (int posicao = 0; posicao < eventos.size(); posicao++) {
+            Evento evento = eventos.get(posicao);
+            int participantes = evento.getTotalParticipantes();
+            if ((categoria == null || evento.getCategoria() == categoria)
+                    && (inicio == null || !evento.getHorario().isBefore(inicio))
+                    && (fim == null || evento.getHorario().isBefore(fim))
+                    && (nome == null || evento.getNome().toLowerCase().contains(nome.toLowerCase()))
+                    && (endereco == null || evento.getEndereco().toLowerCase().contains(endereco.toLowerCase()))
+                    && participantes >= minimo && participantes <= maximo) {
+                aceitos.add(posicao);
+            }
+        }
+        aceitos.sort(comparador(eventos, ordem));
+        List<Evento> esperado = new ArrayList<>();
+        for (int i = 0; i < Math.min(limite, aceitos.size()); i++) {
+            esperado.add(eventos.get(aceitos.get(i)));
+        }
+
+        casos++;
+        if (!mesmos(esperado, obtido) && divergencias++ < 20) {
+            System.out.println("Divergência em [" + descricao.toString().trim() + "] com " + eventos.size()
+                    + " eventos via " + consulta.explicar() + ": esperados " + esperado.size() + ", obtidos "
+                    + obtido.size());
+        }
+    }
+
+    private LocalDateTime horario(SplittableRandom aleatorio, int dias) {
+        return referencia.plusMinutes(aleatorio.nextInt(2 * dias * 24 * 60 + 120) - dias * 24 * 60 - 60);
+    }
+
+    private static Comparator<Integer> comparador(List<Evento> eventos, OrdemConsulta ordem) {
+        Comparator<Integer> desempate = Comparator.naturalOrder();
+        switch (ordem) {
+            case HORARIO:
+                return Comparator.<Integer, LocalDateTime>comparing(p -> eventos.get(p).getHorario()).thenComparing(desempate);
+            case HORARIO_DECRESCENTE:
+                return Comparator.<Integer, LocalDateTime>comparing(p -> eventos.get(p).getHorario()).reversed()
+                        .thenComparing(desempate);
+            case PARTICIPANTES:
+                return Comparator.<Integer>comparingInt(p -> eventos.get(p).getTotalParticipantes()).reversed()
+                        .thenComparing(desempate);
+            default:
+                return desempate;
+        }
+    }
+
+    private static boolean mesmos(List<Evento> esperado, List<Evento> obtido) {
+        if (esperado.size() != obtido.size()) {
+            return false;
+        }
+        for (int i = 0; i < esperado.size(); i++) {
+            if (esperado.get(i) != obtido.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,102 @@
+package benchmark;
+
+import model.Evento;
+import model.Usuario;
+import service.EventoService;
+import service.FormatoRelatorio;
+import service.UsuarioService;
+import util.Exportador;
+import util.Importador;
+import util.ResultadoImportacao;
+import util.TipoRegistro;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class VerificacaoImportacao {
+    private static final String[] TRECHOS = {"", ",", "\"", "\"\"", "\n", "\n\n", ", \"citado\"\nnova linha", "fim\""};
+
+    private long casos;
+    private long divergencias;
+
+    private VerificacaoImportacao() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int quantidade = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        VerificacaoImportacao verificacao = new VerificacaoImportacao();
+        for (FormatoRelatorio formato : new FormatoRelatorio[]{FormatoRelatorio.CSV, FormatoRelatorio.JSONL}) {
+            verificacao.idaEVolta(quantidade, formato);
+        }
+        System.out.println("Casos: " + verificacao.casos + ", divergências: " + verificacao.divergencias);
+        if (verificacao.divergencias > 0) {
+            System.exit(1);
+        }
+    }
+
+    private void idaEVolta(int quantidade, FormatoRelatorio formato) throws IOException {
+        GeradorDados gerador = new GeradorDados(quantidade);
+        EventoService origemEventos = new EventoService();
+        List<Evento> eventos = new ArrayList<>();
+        for (Evento gerado : gerador.eventos(quantidade)) {
+            String descricao = gerado.getDescricao() + TRECHOS[gerador.proximo(TRECHOS.length)] + " fim";
+            String nome = gerado.getNome() + TRECHOS[gerador.proximo(TRECHOS.length)] + " fim";
+            eventos.add(new Evento(nome, gerado.getEndereco(), gerado.getCategoria(), gerado.getHorario(), descricao,
+                    gerado.getCapacidade()));
+        }
+        origemEventos.adicionarEventos(eventos);
+        UsuarioService origemUsuarios = new UsuarioService();
+        List<Usuario> usuarios = new ArrayList<>();
+        for (Usuario gerado : gerador.usuarios(quantidade / 10)) {
+            String nome = gerado.getNome() + TRECHOS[gerador.proximo(TRECHOS.length)] + " fim";
+            usuarios.add(new Usuario(nome, gerado.getEmail(), gerado.getTelefone()));
+        }
+        origemUsuarios.adicionarUsuarios(usuarios);
+
+        EventoService destinoEventos = new EventoService();
+        UsuarioService destinoUsuarios = new UsuarioService();
+        Exportador exportador = new Exportador(origemEventos, origemUsuarios);
+        Importador importador = new Importador(destinoEventos, destinoUsuarios, 4);
+        for (TipoRegistro tipo : new TipoRegistro[]{TipoRegistro.USUARIOS, TipoRegistro.EVENTOS}) {
+            StringWriter exportado = new StringWriter();
+            exportador.exportar(exportado, tipo, formato);
+            StringWriter rejeitados = new StringWriter();
+            ResultadoImportacao resultado = importador.importar(new StringReader(exportado.toString()), tipo, formato,
+                    rejeitados);
+            verificar(formato + " " + tipo + " rejeitadas", 0L, resultado.getRejeitadas());
+        }
+
+        for (Evento esperado : origemEventos.getEventos()) {
+            Evento obtido = destinoEventos.buscarPorId(esperado.getId());
+            if (obtido == null) {
+                verificar(formato + " evento " + esperado.getId() + " importado", true, false);
+                continue;
+            }
+            verificar(formato + " nome do evento " + esperado.getId(), esperado.getNome(), obtido.getNome());
+            verificar(formato + " descrição do evento " + esperado.getId(), esperado.getDescricao(),
+                    obtido.getDescricao());
+            verificar(formato + " horário do evento " + esperado.getId(), esperado.getHorario(), obtido.getHorario());
+            verificar(formato + " capacidade do evento " + esperado.getId(), esperado.getCapacidade(),
+                    obtido.getCapacidade());
+        }
+        for (Usuario esperado : origemUsuarios.getUsuarios()) {
+            Usuario obtido = destinoUsuarios.buscarPorEmail(esperado.getEmail());
+            if (obtido == null) {
+                verificar(formato + " usuário " + esperado.getEmail() + " importado", true, false);
+                continue;
+            }
+            verificar(formato + " nome de " + esperado.getEmail(), esperado.getNome(), obtido.getNome());
+            verificar(formato + " telefone de " + esperado.getEmail(), esperado.getTelefone(), obtido.getTelefone());
+        }
+    }
+
+    private void verificar(String descricao, Object esperado, Object obtido) {
+        casos++;
+        if (!esperado.equals(obtido) && divergencias++ < 20) {
+            System.out.println("Divergência em " + descricao + ": esperado " + esperado + ", obtido " + obtido);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package benchmark;
+
+import model.Categoria;
+import model.Evento;
+import model.Usuario;
+import service.EventoService;
+import service.UsuarioService;
+import util.FileManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public final class VerificacaoJournal {
+    private static final long ESPERA_SINCRONIZACAO_MS = 1000;
+    private static final Categoria[] CATEGORIAS = Categoria.values();
+
+    private long casos;
+    private long divergencias;
+
+    private VerificacaoJournal() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int rodadas = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        VerificacaoJournal verificacao = new VerificacaoJournal();
+        Path diretorio = Files.createTempDirectory("verificacao-journal");
+        try {
+            for (int rodada = 0; rodada < rodadas; rodada++) {
+                verificacao.rodada(diretorio.resolve("rodada-" + rodada), threads, rodada);
+            }
+        } finally {
+            apagar(diretorio);
+        }
+        System.out.println("Casos: " + verificacao.casos + ", divergências: " + verificacao.divergencias);
+        if (verificacao.divergencias > 0) {
+            System.exit(1);
+        }
+    }
+
+    private void rodada(Path diretorio, int threads, int rodada) throws IOException, InterruptedException {
+        Path original = Files.createDirectories(diretorio.resolve("original"));
+        Path copia = Files.createDirectories(diretorio.resolve("copia"));
+        FileManager fileManager = new FileManager(original.resolve("dados.bin").toString(),
+                original.resolve("journal.log").toString());
+        EventoService eventoService = fileManager.carregarEventos();
+        UsuarioService usuarioService = fileManager.carregarUsuarios();
+        AtomicInteger proximoUsuario = new AtomicInteger();
+        AtomicInteger proximoEvento = new AtomicInteger();
+        for (int i = 0; i < 20; i++) {
+            fileManager.adicionarUsuario(novoUsuario(proximoUsuario.getAndIncrement()));
+        }
+        for (int i = 0; i < 5; i++) {
+            fileManager.adicionarEvento(novoEvento(proximoEvento.getAndIncrement(), rodada));
+        }
+
+        executar(threads, 800, i -> {
+            int sorteio = (int) (((i + rodada * 7919L) * 2654435761L) >>> 8) & 0xFFFF;
+            if (sorteio % 23 == 0) {
+                fileManager.adicionarEvento(novoEvento(proximoEvento.getAndIncrement(), rodada));
+                return;
+            }
+            if (sorteio % 29 == 0) {
+                fileManager.adicionarUsuario(novoUsuario(proximoUsuario.getAndIncrement()));
+                return;
+            }
+            List<Evento> eventos = eventoService.getEventos();
+            List<Usuario> usuarios = usuarioService.getUsuarios();
+            Evento evento = eventos.get((sorteio >>> 3) % eventos.size());
+            Usuario usuario = usuarios.get((sorteio >>> 1) % usuarios.size());
+            if (sorteio % 5 < 3) {
+                fileManager.confirmarParticipacao(usuario, evento);
+            } else {
+                fileManager.cancelarParticipacao(usuario, evento);
+            }
+        });
+        Thread.sleep(ESPERA_SINCRONIZACAO_MS);
+
+        Files.copy(original.resolve("journal.log"), copia.resolve("journal.log"), StandardCopyOption.REPLACE_EXISTING);
+        if (Files.exists(original.resolve("dados.bin"))) {
+            Files.copy(original.resolve("dados.bin"), copia.resolve("dados.bin"), StandardCopyOption.REPLACE_EXISTING);
+        }
+        FileManager reaplicado = new FileManager(copia.resolve("dados.bin").toString(),
+                copia.resolve("journal.log").toString());
+        comparar(eventoService, usuarioService, reaplicado.carregarEventos(), reaplicado.carregarUsuarios());
+        reaplicado.fechar();
+        fileManager.fechar();
+    }
+
+    private static Usuario novoUsuario(int indice) {
+        return new Usuario("Usuário " + indice, GeradorDados.email(indice), "11999999999");
+    }
+
+    private static Evento novoEvento(int indice, int rodada) {
+        return new Evento("Evento " + indice, "Rua " + indice + ", Centro", CATEGORIAS[indice % CATEGORIAS.length],
+                LocalDateTime.of(2030, 1, 1, 20, 0).plusDays(indice), "Rodada " + rodada, 1 + indice % 4);
+    }
+
+    private void comparar(EventoService esperadoEventos, UsuarioService esperadoUsuarios,
+                          EventoService obtidoEventos, UsuarioService obtidoUsuarios) {
+        verificar("total de eventos", esperadoEventos.getEventos().size(), obtidoEventos.getEventos().size());
+        verificar("total de usuários", esperadoUsuarios.getUsuarios().size(), obtidoUsuarios.getUsuarios().size());
+        for (Evento esperado : esperadoEventos.getEventos()) {
+            Evento obtido = obtidoEventos.buscarPorId(esperado.getId());
+            if (obtido == null) {
+                verificar("evento " + esperado.getId() + " reaplicado", true, false);
+                continue;
+            }
+            verificar("capacidade do evento " + esperado.getId(), esperado.getCapacidade(), obtido.getCapacidade());
+            verificar("participantes do evento " + esperado.getId(), emails(esperado.getParticipantes()),
+                    emails(obtido.getParticipantes()));
+            verificar("lista de espera do evento " + esperado.getId(), emails(esperado.getListaDeEspera()),
+                    emails(obtido.getListaDeEspera()));
+        }
+        for (Usuario esperado : esperadoUsuarios.getUsuarios()) {
+            Usuario obtido = obtidoUsuarios.buscarPorEmail(esperado.getEmail());
+            if (obtido == null) {
+                verificar("usuário " + esperado.getEmail() + " reaplicado", true, false);
+                continue;
+            }
+            verificar("agenda de " + esperado.getEmail(), ids(esperado.getEventosConfirmados()),
+                    ids(obtido.getEventosConfirmados()));
+        }
+    }
+
+    private static List<String> emails(List<Usuario> usuarios) {
+        return usuarios.stream().map(Usuario::getEmail).collect(Collectors.toList());
+    }
+
+    private static List<Integer> ids(List<Evento> eventos) {
+        return eventos.stream().map(Evento::getId).sorted().collect(Collectors.toList());
+    }
+
+    private static void executar(int threads, int tarefas, IntConsumer tarefa)
+            throws InterruptedException {
+        CountDownLatch largada = new CountDownLatch(1);
+        AtomicInteger proxima = new AtomicInteger();
+        List<Thread> trabalhadores = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread trabalhador = new Thread(() -> {
+                try {
+                    largada.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = proxima.getAndIncrement(); i < tarefas; i = proxima.getAndIncrement()) {
+                    tarefa.accept(i);
+                }
+            });
+            trabalhador.start();
+            trabalhadores.add(trabalhador);
+        }
+        largada.countDown();
+        for (Thread trabalhador : trabalhadores) {
+            trabalhador.join();
+        }
+    }
+
+    private static void apagar(Path diretorio) throws IOException {
+        try (Stream<Path> caminhos = Files.walk(diretorio)) {
+            for (Path caminho : caminhos.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.deleteIfExists(caminho);
+            }
+        }
+    }
+
+    private void verificar(String descricao, Object esperado, Object obtido) {
+        casos++;
+        if (!esperado.equals(obtido) && divergencias++ < 20) {
+            System.out.println("Divergência em " + descricao + ": esperado " + esperado + ", obtido " + obtido);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package benchmark;
+
+import model.Evento;
+import model.Usuario;
+import service.EventoService;
+import service.TabelaEventos;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+public final class VerificacaoTabelaEventos {
+    private long casos;
+    private long divergencias;
+
+    private VerificacaoTabelaEventos() {
+    }
+
+    public static void main(String[] args) {
+        int rodadas = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        VerificacaoTabelaEventos verificacao = new VerificacaoTabelaEventos();
+        for (int rodada = 0; rodada < rodadas; rodada++) {
+            verificacao.participacaoEmLinhaNova(rodada);
+            verificacao.sequencia(rodada, 300);
+        }
+        System.out.println("Casos: " + verificacao.casos + ", divergências: " + verificacao.divergencias);
+        if (verificacao.divergencias > 0) {
+            System.exit(1);
+        }
+    }
+
+    private void participacaoEmLinhaNova(int rodada) {
+        GeradorDados gerador = new GeradorDados(rodada);
+        EventoService eventoService = gerador.eventoService(1 + rodada % 20);
+        List<Usuario> usuarios = gerador.usuarioService(8).getUsuarios();
+        comparar(eventoService, eventoService.tabelaColunar());
+        Evento novo = null;
+        for (int i = 0; i <= rodada % 3; i++) {
+            novo = gerador.evento(1000 + i);
+            eventoService.adicionarEvento(novo);
+        }
+        for (Usuario usuario : usuarios) {
+            eventoService.participar(usuario, novo);
+        }
+        comparar(eventoService, eventoService.tabelaColunar());
+        eventoService.cancelarParticipacao(usuarios.get(0), novo);
+        comparar(eventoService, eventoService.tabelaColunar());
+    }
+
+    private void sequencia(int rodada, int operacoes) {
+        SplittableRandom aleatorio = new SplittableRandom(rodada);
+        GeradorDados gerador = new GeradorDados(rodada);
+        EventoService eventoService = gerador.eventoService(1 + aleatorio.nextInt(40));
+        List<Usuario> usuarios = gerador.usuarioService(30).getUsuarios();
+        for (int i = 0; i < operacoes; i++) {
+            int sorteio = aleatorio.nextInt(100);
+            List<Evento> eventos = eventoService.getEventos();
+            Usuario usuario = usuarios.get(aleatorio.nextInt(usuarios.size()));
+            if (sorteio < 10) {
+                eventoService.adicionarEvento(gerador.evento(2000 + i));
+            } else if (sorteio < 25) {
+                eventoService.participar(usuario, eventos.get(eventos.size() - 1));
+            } else if (sorteio < 60) {
+                eventoService.participar(usuario, eventos.get(aleatorio.nextInt(eventos.size())));
+            } else if (sorteio < 85) {
+                eventoService.cancelarParticipacao(usuario, eventos.get(aleatorio.nextInt(eventos.size())));
+            } else {
+                comparar(eventoService, eventoService.tabelaColunar());
+            }
+        }
+        comparar(eventoService, eventoService.tabelaColunar());
+    }
+
+    private void comparar(EventoService eventoService, TabelaEventos tabela) {
+        List<Evento> eventos = eventoService.getEventos();
+        verificar("tamanho da tabela", eventos.size(), tabela.tamanho());
+        for (int linha = 0; linha < Math.min(eventos.size(), tabela.tamanho()); linha++) {
+            Evento evento = eventos.get(linha);
+            verificar("id da linha " + linha, evento.getId(), tabela.id(linha));
+            verificar("horário da linha " + linha, evento.getHorarioEmSegundos(), tabela.horario(linha));
+            verificar("categoria da linha " + linha, evento.getCategoria(), tabela.categoria(linha));
+            verificar("total de participantes da linha " + linha, evento.getTotalParticipantes(),
+                    tabela.totalParticipantes(linha));
+            int[] esperados = evento.getParticipantes().stream().mapToInt(Usuario::getId).toArray();
+            verificar("participantes da linha " + linha, Arrays.toString(esperados),
+                    Arrays.toString(tabela.participantes(linha)));
+        }
+    }
+
+    private void verificar(String descricao, Object esperado, Object obtido) {
+        casos++;
+        if (!esperado.equals(obtido) && divergencias++ < 20) {
+            System.out.println("Divergência em " + descricao + ": esperado " + esperado + ", obtido " + obtido);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package benchmark;
+
+import util.Validador;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+public final class VerificacaoValidadores {
+    private static final String ALFABETO = "0123456789/:@.+_-aZ \n\r\u0085 é١()x";
+    private static final int[] ANOS = {0, 1, 4, 99, 100, 400, 1900, 1999, 2000, 2023, 2024, 2100, 9999, 1234, 5};
+    private static final String[] FORMATOS_HORA = {"%d:%02d", "%02d:%02d", "%d:%d", "%03d:%02d"};
+
+    private long casos;
+    private long divergencias;
+
+    private VerificacaoValidadores() {
+    }
+
+    public static void main(String[] args) {
+        int aleatorios = args.length > 0 ? Integer.parseInt(args[0]) : 3_000_000;
+        VerificacaoValidadores verificacao = new VerificacaoValidadores();
+        verificacao.datas();
+        verificacao.horas();
+        verificacao.aleatorios(aleatorios, args.length > 1 ? Long.parseLong(args[1]) : 1);
+        System.out.println("Casos: " + verificacao.casos + ", divergências: " + verificacao.divergencias);
+        if (verificacao.divergencias > 0) {
+            System.exit(1);
+        }
+    }
+
+    private void datas() {
+        for (int dia = 0; dia < 100; dia++) {
+            for (int mes = 0; mes < 100; mes++) {
+                for (int ano : ANOS) {
+                    compararData(String.format("%02d/%02d/%04d", dia, mes, ano));
+                }
+            }
+        }
+        for (int ano = 0; ano < 10000; ano++) {
+            compararData(String.format("29/02/%04d", ano));
+        }
+    }
+
+    private void horas() {
+        for (int hora = -1; hora < 101; hora++) {
+            for (int minuto = -1; minuto < 101; minuto++) {
+                for (String formato : FORMATOS_HORA) {
+                    String texto = String.format(formato, hora, minuto);
+                    comparar("hora", texto, ValidadorRegex.validarHora(texto), Validador.validarHora(texto));
+                }
+            }
+        }
+    }
+
+    private void aleatorios(int quantidade, long semente) {
+        SplittableRandom aleatorio = new SplittableRandom(semente);
+        StringBuilder texto = new StringBuilder();
+        for (int i = 0; i < quantidade; i++) {
+            texto.setLength(0);
+            int tamanho = aleatorio.nextInt(14);
+            for (int k = 0; k < tamanho; k++) {
+                texto.append(ALFABETO.charAt(aleatorio.nextInt(ALFABETO.length())));
+            }
+            String s = texto.toString();
+            comparar("email", s, ValidadorRegex.validarEmail(s), Validador.validarEmail(s));
+            comparar("telefone", s, ValidadorRegex.validarTelefone(s), Validador.validarTelefone(s));
+            comparar("data", s, ValidadorRegex.validarData(s), Validador.validarData(s));
+            comparar("hora", s, ValidadorRegex.validarHora(s), Validador.validarHora(s));
+            comparar("capacidade", s, ValidadorRegex.validarCapacidade(s), Validador.validarCapacidade(s));
+        }
+    }
+
+    private void compararData(String texto) {
+        LocalDate esperada = ValidadorRegex.lerData(texto);
+        int lida = Validador.lerData(texto);
+        int codificada = esperada == null ? -1
+                : esperada.getYear() * 10000 + esperada.getMonthValue() * 100 + esperada.getDayOfMonth();
+        comparar("data", texto, codificada, lida);
+    }
+
+    private void comparar(String campo, String texto, Object esperado, Object obtido) {
+        casos++;
+        if (!esperado.equals(obtido) && divergencias++ < 20) {
+            System.out.println("Divergência em " + campo + " [" + texto + "]: esperado " + esperado + ", obtido " + obtido);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package model;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+public class ConjuntoOrdenado<T> implements Serializable {
+    private static final long serialVersionUID = 2L;
+    private static final Object[] VAZIO = new Object[0];
+    private static final int CAPACIDADE_INICIAL = 4;
+    private transient Map<T, Integer> posicoes = new HashMap<>();
+    private transient Object[] ordem = VAZIO;
+    private transient int inicio;
+    private transient int fim;
+    private transient int removidos;
+    private transient int compartilhadoAte;
+    private transient volatile List<T> visao;
+    private volatile int tamanho;
+
+    public synchronized boolean adicionar(T item) {
+        if (posicoes.containsKey(item)) {
+            return false;
+        }
+        if (fim == ordem.length) {
+            realocar(-1);
+        }
+        posicoes.put(item, fim);
+        ordem[fim++] = item;
+        tamanho++;
+        visao = null;
+        return true;
+    }
+
+    public synchronized boolean remover(T item) {
+        Integer posicao = posicoes.remove(item);
+        if (posicao == null) {
+            return false;
+        }
+        tamanho--;
+        visao = null;
+        if (tamanho == 0) {
+            ordem = VAZIO;
+            inicio = fim = removidos = compartilhadoAte = 0;
+        } else if (posicao == inicio) {
+            if (posicao >= compartilhadoAte) {
+                ordem[posicao] = null;
+            }
+            inicio++;
+            while (ordem[inicio] == null) {
+                inicio++;
+                removidos--;
+            }
+        } else if (posicao >= compartilhadoAte) {
+            ordem[posicao] = null;
+            if (++removidos > tamanho) {
+                realocar(-1);
+            }
+        } else {
+            realocar(posicao);
+        }
+        return true;
+    }
+
+    private void realocar(int ignorar) {
+        Object[] novo = new Object[Math.max(CAPACIDADE_INICIAL, 2 * tamanho)];
+        int destino = 0;
+        for (int i = inicio; i < fim; i++) {
+            if (ordem[i] != null && i != ignorar) {
+                @SuppressWarnings("unchecked")
+                T item = (T) ordem[i];
+                posicoes.put(item, destino);
+                novo[destino++] = item;
+            }
+        }
+        ordem = novo;
+        inicio = 0;
+        fim = destino;
+        removidos = 0;
+        compartilhadoAte = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public synchronized T removerPrimeiro() {
+        if (tamanho == 0) {
+            return null;
+        }
+        T primeiro = (T) ordem[inicio];
+        remover(primeiro);
+        return primeiro;
+    }
+
+    public synchronized boolean contem(T item) {
+        return posicoes.containsKey(item);
+    }
+
+    public int tamanho() {
+        return tamanho;
+    }
+
+    public List<T> lista() {
+        List<T> atual = visao;
+        if (atual == null) {
+            synchronized (this) {
+                if (visao == null) {
+                    if (removidos > 0) {
+                        realocar(-1);
+                    }
+                    visao = new Visao<>(ordem, inicio, fim);
+                    compartilhadoAte = fim;
+                }
+                atual = visao;
+            }
+        }
+        return atual;
+    }
+
+    private synchronized void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        for (int i = inicio; i < fim; i++) {
+            if (ordem[i] != null) {
+                out.writeObject(ordem[i]);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        posicoes = new HashMap<>();
+        ordem = tamanho == 0 ? VAZIO : new Object[tamanho];
+        for (int i = 0; i < tamanho; i++) {
+            T item = (T) in.readObject();
+            posicoes.put(item, i);
+            ordem[i] = item;
+        }
+        inicio = 0;
+        fim = tamanho;
+    }
+
+    private static final class Visao<T> extends AbstractList<T> implements RandomAccess {
+        private final Object[] itens;
+        private final int inicio;
+        private final int tamanho;
+
+        Visao(Object[] itens, int inicio, int fim) {
+            this.itens = itens;
+            this.inicio = inicio;
+            this.tamanho = fim - inicio;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int indice) {
+            return (T) itens[inicio + Objects.checkIndex(indice, tamanho)];
+        }
+
+        @Override
+        public int size() {
+            return tamanho;
+        }
+    }
+}
@@ -1,28 +1,60 @@
 package model;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class Evento implements Serializable {
     private static final long serialVersionUID = 1L;
+    private static final AtomicInteger PROXIMO_ID = new AtomicInteger(1);
+    private int id = PROXIMO_ID.getAndIncrement();
     private String nome;
     private String endereco;
     private Categoria categoria;
-    private LocalDateTime horario;
+    private long horarioSegundos;
+    private int horarioNanos;
     private String descricao;
-    private List<Usuario> participantes;
+    private ConjuntoOrdenado<Usuario> participantes;
+    private int capacidade;
+    private ConjuntoOrdenado<Usuario> listaDeEspera;
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
 
     public Evento(String nome, String endereco, Categoria categoria, LocalDateTime horario, String descricao) {
         this.nome = nome;
-        this.endereco = endereco;
+        this.endereco = PoolDeTextos.compartilhar(endereco);
         this.categoria = categoria;
-        this.horario = horario;
+        this.horarioSegundos = horario.toEpochSecond(ZoneOffset.UTC);
+        this.horarioNanos = horario.getNano();
         this.descricao = descricao;
-        this.participantes = new ArrayList<>();
+        this.participantes = new ConjuntoOrdenado<>();
+        this.listaDeEspera = new ConjuntoOrdenado<>();
+    }
+
+    public Evento(String nome, String endereco, Categoria categoria, LocalDateTime horario, String descricao, int capacidade) {
+        this(nome, endereco, categoria, horario, descricao);
+        this.capacidade = capacidade;
+    }
+
+    protected Evento(Categoria categoria, long horarioSegundos, int horarioNanos, int capacidade) {
+        this.categoria = categoria;
+        this.horarioSegundos = horarioSegundos;
+        this.horarioNanos = horarioNanos;
+        this.capacidade = capacidade;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+        PROXIMO_ID.accumulateAndGet(id + 1, Math::max);
     }
 
     public String getNome() {
@@ -38,29 +70,159 @@ public class Evento implements Serializable {
     }
 
     public LocalDateTime getHorario() {
-        return horario;
+        return LocalDateTime.ofEpochSecond(horarioSegundos, horarioNanos, ZoneOffset.UTC);
+    }
+
+    public long getHorarioEmSegundos() {
+        return horarioSegundos;
+    }
+
+    public int getHorarioNanos() {
+        return horarioNanos;
     }
 
     public String getDescricao() {
         return descricao;
     }
 
-    public List<Usuario> getParticipantes() {
+    public int getCapacidade() {
+        return capacidade;
+    }
+
+    protected ConjuntoOrdenado<Usuario> participantes() {
         return participantes;
     }
 
-    public void adicionarParticipante(Usuario usuario) {
-        if (!participantes.contains(usuario)) {
-            participantes.add(usuario);
+    protected ConjuntoOrdenado<Usuario> listaDeEspera() {
+        return listaDeEspera;
+    }
+
+    private boolean temVaga() {
+        return capacidade <= 0 || participantes().tamanho() < capacidade;
+    }
+
+    public List<Usuario> getParticipantes() {
+        return participantes().lista();
+    }
+
+    public int getTotalParticipantes() {
+        return participantes().tamanho();
+    }
+
+    public boolean temParticipante(Usuario usuario) {
+        return participantes().contem(usuario);
+    }
+
+    public List<Usuario> getListaDeEspera() {
+        return listaDeEspera().lista();
+    }
+
+    public boolean estaNaListaDeEspera(Usuario usuario) {
+        return listaDeEspera().contem(usuario);
+    }
+
+    public synchronized boolean entrarNaListaDeEspera(Usuario usuario) {
+        return !temParticipante(usuario) && listaDeEspera().adicionar(usuario);
+    }
+
+    public synchronized boolean sairDaListaDeEspera(Usuario usuario) {
+        return listaDeEspera().remover(usuario);
+    }
+
+    public synchronized boolean adicionarParticipante(Usuario usuario) {
+        if (temParticipante(usuario)) {
+            return false;
+        }
+        if (!temVaga()) {
+            listaDeEspera().adicionar(usuario);
+            return false;
+        }
+        listaDeEspera().remover(usuario);
+        return participantes().adicionar(usuario);
+    }
+
+    public synchronized boolean removerParticipante(Usuario usuario) {
+        return removerParticipante(usuario, null);
+    }
+
+    public synchronized boolean removerParticipante(Usuario usuario, List<Usuario> promovidos) {
+        if (!participantes().remover(usuario)) {
+            return false;
+        }
+        promoverListaDeEspera(promovidos);
+        return true;
+    }
+
+    private void promoverListaDeEspera(List<Usuario> promovidos) {
+        while (capacidade > 0 && temVaga()) {
+            Usuario proximo = listaDeEspera().removerPrimeiro();
+            if (proximo == null) {
+                return;
+            }
+            if (participantes().adicionar(proximo)) {
+                proximo.participarEvento(this);
+                if (promovidos != null) {
+                    promovidos.add(proximo);
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField campos = in.readFields();
+        id = campos.get("id", 0);
+        if (id == 0) {
+            id = PROXIMO_ID.getAndIncrement();
+        } else {
+            PROXIMO_ID.accumulateAndGet(id + 1, Math::max);
+        }
+        nome = (String) campos.get("nome", null);
+        endereco = PoolDeTextos.compartilhar((String) campos.get("endereco", null));
+        categoria = (Categoria) campos.get("categoria", null);
+        if (campos.getObjectStreamClass().getField("horario") != null) {
+            LocalDateTime horario = (LocalDateTime) campos.get("horario", null);
+            horarioSegundos = horario.toEpochSecond(ZoneOffset.UTC);
+            horarioNanos = horario.getNano();
+        } else {
+            horarioSegundos = campos.get("horarioSegundos", 0L);
+            horarioNanos = campos.get("horarioNanos", 0);
+        }
+        descricao = (String) campos.get("descricao", null);
+        capacidade = campos.get("capacidade", 0);
+        listaDeEspera = (ConjuntoOrdenado<Usuario>) campos.get("listaDeEspera", null);
+        if (listaDeEspera == null) {
+            listaDeEspera = new ConjuntoOrdenado<>();
+        }
+        Object salvos = campos.get("participantes", null);
+        if (salvos instanceof ConjuntoOrdenado) {
+            participantes = (ConjuntoOrdenado<Usuario>) salvos;
+        } else {
+            participantes = new ConjuntoOrdenado<>();
+            if (salvos != null) {
+                ((Collection<Usuario>) salvos).forEach(participantes::adicionar);
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Evento)) {
+            return false;
         }
+        return id == ((Evento) o).id;
     }
 
-    public void removerParticipante(Usuario usuario) {
-        participantes.remove(usuario);
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(id);
     }
 
     @Override
     public String toString() {
-        return nome + " | " + categoria + " | " + horario.format(DATE_TIME_FORMATTER) + " | " + endereco + "\n" + descricao;
+        return getNome() + " | " + categoria + " | " + getHorario().format(DATE_TIME_FORMATTER) + " | " + getEndereco() + "\n" + getDescricao();
     }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package model;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+public class Notificacao {
+    private final Usuario usuario;
+    private final Evento evento;
+    private final Duration antecedencia;
+    private final LocalDateTime emitidaEm;
+
+    public Notificacao(Usuario usuario, Evento evento, Duration antecedencia, LocalDateTime emitidaEm) {
+        this.usuario = usuario;
+        this.evento = evento;
+        this.antecedencia = antecedencia;
+        this.emitidaEm = emitidaEm;
+    }
+
+    public Usuario getUsuario() {
+        return usuario;
+    }
+
+    public Evento getEvento() {
+        return evento;
+    }
+
+    public Duration getAntecedencia() {
+        return antecedencia;
+    }
+
+    public LocalDateTime getEmitidaEm() {
+        return emitidaEm;
+    }
+}
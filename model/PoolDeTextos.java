@@ -0,0 +1,23 @@
+package model;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public final class PoolDeTextos {
+    private static final ConcurrentMap<String, String> TEXTOS = new ConcurrentHashMap<>();
+
+    private PoolDeTextos() {
+    }
+
+    public static String compartilhar(String texto) {
+        if (texto == null) {
+            return null;
+        }
+        String existente = TEXTOS.putIfAbsent(texto, texto);
+        return existente != null ? existente : texto;
+    }
+
+    public static int tamanho() {
+        return TEXTOS.size();
+    }
+}
@@ -1,21 +1,43 @@
 package model;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class Usuario implements Serializable {
     private static final long serialVersionUID = 1L;
+    private static final int BITS_TELEFONE = 57;
+    private static final long MASCARA_TELEFONE = (1L << BITS_TELEFONE) - 1;
+    private static final int MAX_DIGITOS_TELEFONE = 17;
+    private static final AtomicInteger PROXIMO_ID = new AtomicInteger(1);
+    private int id = PROXIMO_ID.getAndIncrement();
     private String nome;
     private String email;
     private String telefone;
-    private List<Evento> eventosConfirmados;
+    private long telefoneCompacto;
+    private ConjuntoOrdenado<Evento> eventosConfirmados;
 
     public Usuario(String nome, String email, String telefone) {
         this.nome = nome;
         this.email = email;
-        this.telefone = telefone;
-        this.eventosConfirmados = new ArrayList<>();
+        definirTelefone(telefone);
+        this.eventosConfirmados = new ConjuntoOrdenado<>();
+    }
+
+    protected Usuario(String email) {
+        this.email = email;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+        PROXIMO_ID.accumulateAndGet(id + 1, Math::max);
     }
 
     public String getNome() {
@@ -27,31 +49,96 @@ public class Usuario implements Serializable {
     }
 
     public String getTelefone() {
-        return telefone;
+        if (telefone != null || telefoneCompacto == 0) {
+            return telefone;
+        }
+        char[] digitos = new char[(int) (telefoneCompacto >>> BITS_TELEFONE)];
+        long numero = telefoneCompacto & MASCARA_TELEFONE;
+        for (int i = digitos.length - 1; i >= 0; i--) {
+            digitos[i] = (char) ('0' + numero % 10);
+            numero /= 10;
+        }
+        return new String(digitos);
     }
 
-    public List<Evento> getEventosConfirmados() {
+    private void definirTelefone(String telefone) {
+        this.telefone = telefone;
+        this.telefoneCompacto = 0;
+        if (telefone == null || telefone.isEmpty() || telefone.length() > MAX_DIGITOS_TELEFONE) {
+            return;
+        }
+        long numero = 0;
+        for (int i = 0; i < telefone.length(); i++) {
+            char c = telefone.charAt(i);
+            if (c < '0' || c > '9') {
+                return;
+            }
+            numero = numero * 10 + (c - '0');
+        }
+        this.telefone = null;
+        this.telefoneCompacto = ((long) telefone.length() << BITS_TELEFONE) | numero;
+    }
+
+    protected ConjuntoOrdenado<Evento> eventosConfirmados() {
         return eventosConfirmados;
     }
 
-    public void participarEvento(Evento evento) {
-        if (!eventosConfirmados.contains(evento)) {
-            eventosConfirmados.add(evento);
-        }
+    public List<Evento> getEventosConfirmados() {
+        return eventosConfirmados().lista();
     }
 
-    public void cancelarEvento(Evento evento) {
-        eventosConfirmados.remove(evento);
+    public int getTotalEventosConfirmados() {
+        return eventosConfirmados().tamanho();
     }
 
-    public void listarEventosParticipando() {
-        if (eventosConfirmados.isEmpty()) {
-            System.out.println("Você não está participando de nenhum evento.");
-            return;
+    public boolean participarEvento(Evento evento) {
+        return eventosConfirmados().adicionar(evento);
+    }
+
+    public boolean cancelarEvento(Evento evento) {
+        return eventosConfirmados().remover(evento);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField campos = in.readFields();
+        id = campos.get("id", 0);
+        if (id == 0) {
+            id = PROXIMO_ID.getAndIncrement();
+        } else {
+            PROXIMO_ID.accumulateAndGet(id + 1, Math::max);
         }
-        System.out.println("\nSeus eventos:");
-        for (Evento evento : eventosConfirmados) {
-            System.out.println(evento);
+        nome = (String) campos.get("nome", null);
+        email = (String) campos.get("email", null);
+        telefoneCompacto = campos.get("telefoneCompacto", 0L);
+        String telefoneTexto = (String) campos.get("telefone", null);
+        if (telefoneTexto != null) {
+            definirTelefone(telefoneTexto);
         }
+        Object salvos = campos.get("eventosConfirmados", null);
+        if (salvos instanceof ConjuntoOrdenado) {
+            eventosConfirmados = (ConjuntoOrdenado<Evento>) salvos;
+        } else {
+            eventosConfirmados = new ConjuntoOrdenado<>();
+            if (salvos != null) {
+                ((Collection<Evento>) salvos).forEach(eventosConfirmados::adicionar);
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Usuario)) {
+            return false;
+        }
+        return id == ((Usuario) o).id;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(id);
     }
 }
\ No newline at end of file
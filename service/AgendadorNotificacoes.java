@@ -0,0 +1,188 @@
+package service;
+
+import model.Evento;
+import model.Notificacao;
+import model.Usuario;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+public class AgendadorNotificacoes implements AutoCloseable {
+    private static final Duration[] ANTECEDENCIAS = {Duration.ofHours(24), Duration.ofHours(1)};
+
+    private final CanalNotificacao canal;
+    private final Clock relogio;
+    private final PriorityQueue<Lembrete> fila = new PriorityQueue<>(Comparator.comparing((Lembrete l) -> l.disparo));
+    private final ScheduledExecutorService executor;
+    private ScheduledFuture<?> proximo;
+    private LocalDateTime proximoDisparo;
+
+    public AgendadorNotificacoes(CanalNotificacao canal) {
+        this(canal, Clock.systemDefaultZone());
+    }
+
+    public AgendadorNotificacoes(CanalNotificacao canal, Clock relogio) {
+        this.canal = canal;
+        this.relogio = relogio;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "agendador-notificacoes");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public synchronized void agendar(Evento evento) {
+        enfileirar(evento, LocalDateTime.now(relogio));
+        reprogramar();
+    }
+
+    public synchronized void agendarTodos(Collection<Evento> eventos) {
+        LocalDateTime agora = LocalDateTime.now(relogio);
+        for (Evento evento : eventos) {
+            enfileirar(evento, agora);
+        }
+        reprogramar();
+    }
+
+    public synchronized void cancelarTodos(Collection<Evento> eventos) {
+        Set<Evento> cancelados = new HashSet<>(eventos);
+        if (fila.removeIf(l -> cancelados.contains(l.evento))) {
+            rearmar();
+        }
+    }
+
+    public void participacaoConfirmada(Usuario usuario, Evento evento) {
+        LocalDateTime agora = LocalDateTime.now(relogio);
+        Duration vencida = lembreteVencido(evento, agora);
+        if (vencida != null) {
+            enviar(new Notificacao(usuario, evento, vencida, agora));
+        }
+    }
+
+    public void participacaoCancelada(Usuario usuario, Evento evento) {
+        try {
+            canal.descartar(usuario, evento);
+        } catch (RuntimeException e) {
+            System.out.println("Erro ao descartar notificações: " + e.getMessage());
+        }
+    }
+
+    public synchronized int getPendentes() {
+        return fila.size();
+    }
+
+    public void dispararVencidos() {
+        List<Lembrete> vencidos = new ArrayList<>();
+        LocalDateTime agora;
+        synchronized (this) {
+            proximo = null;
+            proximoDisparo = null;
+            agora = LocalDateTime.now(relogio);
+            while (!fila.isEmpty() && !fila.peek().disparo.isAfter(agora)) {
+                vencidos.add(fila.poll());
+            }
+            reprogramar();
+        }
+        for (Lembrete lembrete : vencidos) {
+            if (!lembrete.evento.getHorario().isAfter(agora)) {
+                continue;
+            }
+            for (Usuario usuario : lembrete.evento.getParticipantes()) {
+                enviar(new Notificacao(usuario, lembrete.evento, lembrete.antecedencia, agora));
+            }
+        }
+    }
+
+    private void enfileirar(Evento evento, LocalDateTime agora) {
+        LocalDateTime horario = evento.getHorario();
+        if (!horario.isAfter(agora)) {
+            return;
+        }
+        for (Duration antecedencia : ANTECEDENCIAS) {
+            LocalDateTime disparo = horario.minus(antecedencia);
+            if (disparo.isAfter(agora)) {
+                fila.add(new Lembrete(disparo, evento, antecedencia));
+            }
+        }
+        Duration vencida = lembreteVencido(evento, agora);
+        if (vencida != null) {
+            fila.add(new Lembrete(agora, evento, vencida));
+        }
+    }
+
+    private Duration lembreteVencido(Evento evento, LocalDateTime agora) {
+        LocalDateTime horario = evento.getHorario();
+        if (!horario.isAfter(agora)) {
+            return null;
+        }
+        Duration vencida = null;
+        for (Duration antecedencia : ANTECEDENCIAS) {
+            if (!horario.minus(antecedencia).isAfter(agora)) {
+                vencida = antecedencia;
+            }
+        }
+        return vencida;
+    }
+
+    private void rearmar() {
+        if (proximo != null) {
+            proximo.cancel(false);
+            proximo = null;
+            proximoDisparo = null;
+        }
+        reprogramar();
+    }
+
+    private void reprogramar() {
+        Lembrete cabeca = fila.peek();
+        if (cabeca == null || executor.isShutdown()) {
+            return;
+        }
+        if (proximo != null && !cabeca.disparo.isBefore(proximoDisparo)) {
+            return;
+        }
+        if (proximo != null) {
+            proximo.cancel(false);
+        }
+        long atraso = Math.max(0, Duration.between(LocalDateTime.now(relogio), cabeca.disparo).toMillis());
+        proximoDisparo = cabeca.disparo;
+        proximo = executor.schedule(this::dispararVencidos, atraso, TimeUnit.MILLISECONDS);
+    }
+
+    private void enviar(Notificacao notificacao) {
+        try {
+            canal.enviar(notificacao);
+        } catch (RuntimeException e) {
+            System.out.println("Erro ao enviar notificação: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private static class Lembrete {
+        private final LocalDateTime disparo;
+        private final Evento evento;
+        private final Duration antecedencia;
+
+        Lembrete(LocalDateTime disparo, Evento evento, Duration antecedencia) {
+            this.disparo = disparo;
+            this.evento = evento;
+            this.antecedencia = antecedencia;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package service;
+
+import model.Evento;
+import util.RankingTopK;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ForkJoinPool;
+
+class AgregadosEventos {
+    private final NavigableMap<LocalDateTime, List<Evento>> eventosPorHorario;
+    private final Corte antesDeAgora = new Corte(false);
+    private final Corte ateAgora = new Corte(true);
+    private final Corte ateInicioJanela = new Corte(true);
+    private final Corte antesDoFimJanela = new Corte(false);
+    private final RankingTopK<Evento> maisParticipantes;
+    private long total;
+
+    AgregadosEventos(NavigableMap<LocalDateTime, List<Evento>> eventosPorHorario, int topK,
+                     Map<Evento, Integer> posicoes) {
+        this.eventosPorHorario = eventosPorHorario;
+        this.maisParticipantes = new RankingTopK<>(topK, Evento::getTotalParticipantes, posicoes::get);
+    }
+
+    void registrar(Evento evento) {
+        total++;
+        LocalDateTime horario = evento.getHorario();
+        antesDeAgora.registrar(horario);
+        ateAgora.registrar(horario);
+        ateInicioJanela.registrar(horario);
+        antesDoFimJanela.registrar(horario);
+        maisParticipantes.atualizar(evento);
+    }
+
+    void participacaoAlterada(Evento evento) {
+        maisParticipantes.atualizar(evento);
+    }
+
+    long[] contarPorPeriodo(LocalDateTime agora) {
+        long passados = antesDeAgora.avancar(agora);
+        long futuros = total - ateAgora.avancar(agora);
+        long emAndamento = antesDoFimJanela.avancar(agora.plusHours(1)) - ateInicioJanela.avancar(agora.minusHours(1));
+        return new long[]{futuros, emAndamento, passados};
+    }
+
+    List<Evento> maisParticipantes(List<Evento> eventos, int paralelismo) {
+        if (paralelismo <= 1) {
+            return maisParticipantes.topo(eventos);
+        }
+        ForkJoinPool pool = new ForkJoinPool(paralelismo);
+        try {
+            return maisParticipantes.topo(eventos, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private class Corte {
+        private final boolean inclusivo;
+        private LocalDateTime limite = LocalDateTime.MIN;
+        private long contagem;
+
+        Corte(boolean inclusivo) {
+            this.inclusivo = inclusivo;
+        }
+
+        void registrar(LocalDateTime horario) {
+            int comparacao = horario.compareTo(limite);
+            if (comparacao < 0 || (inclusivo && comparacao == 0)) {
+                contagem++;
+            }
+        }
+
+        long avancar(LocalDateTime novoLimite) {
+            int comparacao = novoLimite.compareTo(limite);
+            if (comparacao > 0) {
+                contagem += somar(eventosPorHorario.subMap(limite, !inclusivo, novoLimite, inclusivo));
+            } else if (comparacao < 0) {
+                contagem -= somar(eventosPorHorario.subMap(novoLimite, !inclusivo, limite, inclusivo));
+            }
+            limite = novoLimite;
+            return contagem;
+        }
+
+        private long somar(NavigableMap<LocalDateTime, List<Evento>> faixa) {
+            long soma = 0;
+            for (List<Evento> lista : faixa.values()) {
+                soma += lista.size();
+            }
+            return soma;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package service;
+
+import model.Evento;
+import model.Notificacao;
+import model.Usuario;
+
+public interface CanalNotificacao {
+    void enviar(Notificacao notificacao);
+
+    default void descartar(Usuario usuario, Evento evento) {
+    }
+}
@@ -0,0 +1,25 @@
+package service;
+
+import model.Evento;
+import model.Notificacao;
+
+import java.time.temporal.ChronoUnit;
+
+public class CanalNotificacaoConsole implements CanalNotificacao {
+    @Override
+    public void enviar(Notificacao notificacao) {
+        Evento evento = notificacao.getEvento();
+        long horasAteEvento = ChronoUnit.HOURS.between(notificacao.getEmitidaEm(), evento.getHorario());
+        StringBuilder sb = new StringBuilder();
+        sb.append("\n=== Notificação para ").append(notificacao.getUsuario().getNome()).append(" ===\n");
+        sb.append("Evento próximo: ").append(evento.getNome()).append('\n');
+        sb.append("Horário: ").append(evento.getHorario()).append('\n');
+        sb.append("Local: ").append(evento.getEndereco()).append('\n');
+        if (horasAteEvento < 1) {
+            sb.append("O evento começa em menos de 1 hora!");
+        } else {
+            sb.append("O evento começa em ").append(horasAteEvento).append(" horas!");
+        }
+        System.out.println(sb);
+    }
+}
@@ -0,0 +1,57 @@
+package service;
+
+import model.Evento;
+import model.Notificacao;
+import model.Usuario;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class CanalNotificacaoMemoria implements CanalNotificacao {
+    private final Map<Usuario, ConcurrentLinkedQueue<Notificacao>> caixas = new ConcurrentHashMap<>();
+    private final Usuario destinatario;
+
+    public CanalNotificacaoMemoria() {
+        this(null);
+    }
+
+    public CanalNotificacaoMemoria(Usuario destinatario) {
+        this.destinatario = destinatario;
+    }
+
+    @Override
+    public void enviar(Notificacao notificacao) {
+        if (destinatario != null && !destinatario.equals(notificacao.getUsuario())) {
+            return;
+        }
+        caixas.computeIfAbsent(notificacao.getUsuario(), u -> new ConcurrentLinkedQueue<>()).add(notificacao);
+    }
+
+    public List<Notificacao> getNotificacoes(Usuario usuario) {
+        ConcurrentLinkedQueue<Notificacao> caixa = caixas.get(usuario);
+        return caixa == null ? new ArrayList<>() : new ArrayList<>(caixa);
+    }
+
+    @Override
+    public void descartar(Usuario usuario, Evento evento) {
+        ConcurrentLinkedQueue<Notificacao> caixa = caixas.get(usuario);
+        if (caixa != null) {
+            caixa.removeIf(n -> n.getEvento().equals(evento));
+        }
+    }
+
+    public void descartarEncerradas(Usuario usuario, LocalDateTime agora) {
+        ConcurrentLinkedQueue<Notificacao> caixa = caixas.get(usuario);
+        if (caixa != null) {
+            caixa.removeIf(n -> !n.getEvento().getHorario().isAfter(agora));
+        }
+    }
+
+    public int getTotal() {
+        return caixas.values().stream().mapToInt(ConcurrentLinkedQueue::size).sum();
+    }
+}
@@ -0,0 +1,318 @@
+package service;
+
+import model.Categoria;
+import model.Evento;
+import util.ConjuntoBits;
+import util.IndiceTrigramas;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+
+public final class ConsultaEventos {
+    private static final int FRACAO_INTERSECAO_NOMES = 8;
+
+    private final EventoService eventoService;
+    private Categoria categoria;
+    private LocalDateTime inicio;
+    private LocalDateTime fim;
+    private String nome;
+    private String endereco;
+    private int minimoParticipantes = 0;
+    private int maximoParticipantes = Integer.MAX_VALUE;
+    private OrdemConsulta ordem = OrdemConsulta.CADASTRO;
+    private int limite = Integer.MAX_VALUE;
+    private String plano = "";
+
+    ConsultaEventos(EventoService eventoService) {
+        this.eventoService = eventoService;
+    }
+
+    public ConsultaEventos categoria(Categoria categoria) {
+        this.categoria = categoria;
+        return this;
+    }
+
+    public ConsultaEventos aPartirDe(LocalDateTime inicio) {
+        this.inicio = inicio;
+        return this;
+    }
+
+    public ConsultaEventos ate(LocalDateTime fim) {
+        this.fim = fim;
+        return this;
+    }
+
+    public ConsultaEventos entre(LocalDateTime inicio, LocalDateTime fim) {
+        return aPartirDe(inicio).ate(fim);
+    }
+
+    public ConsultaEventos nomeContem(String nome) {
+        this.nome = nome == null || nome.isEmpty() ? null : nome;
+        return this;
+    }
+
+    public ConsultaEventos enderecoContem(String endereco) {
+        this.endereco = endereco == null || endereco.isEmpty() ? null : endereco.toLowerCase();
+        return this;
+    }
+
+    public ConsultaEventos minimoParticipantes(int minimo) {
+        this.minimoParticipantes = minimo;
+        return this;
+    }
+
+    public ConsultaEventos maximoParticipantes(int maximo) {
+        this.maximoParticipantes = maximo;
+        return this;
+    }
+
+    public ConsultaEventos ordenarPor(OrdemConsulta ordem) {
+        this.ordem = ordem;
+        return this;
+    }
+
+    public ConsultaEventos limite(int limite) {
+        if (limite <= 0) {
+            throw new IllegalArgumentException("Limite deve ser positivo: " + limite);
+        }
+        this.limite = limite;
+        return this;
+    }
+
+    public String explicar() {
+        return plano;
+    }
+
+    public List<Evento> executar() {
+        if (inicio != null && fim != null && !inicio.isBefore(fim)) {
+            plano = "faixa de horário vazia";
+            return new ArrayList<>();
+        }
+        List<Evento> eventos = eventoService.getEventos();
+        int total = eventos.size();
+        long melhor = total;
+        Caminho caminho = Caminho.VARREDURA;
+
+        IndiceTrigramas<Evento> indiceNomes = null;
+        int estimativaNome = -1;
+        if (nome != null) {
+            indiceNomes = eventoService.obterIndiceNomes();
+            estimativaNome = indiceNomes.estimar(nome);
+            if (estimativaNome == 0) {
+                plano = "índice de nomes: nenhum candidato";
+                return new ArrayList<>();
+            }
+            if (estimativaNome > 0 && estimativaNome < melhor) {
+                melhor = estimativaNome;
+                caminho = Caminho.NOME;
+            }
+        }
+        ConjuntoBits conjuntoCategoria = null;
+        if (categoria != null) {
+            conjuntoCategoria = eventoService.conjuntoCategoria(categoria);
+            int naCategoria = conjuntoCategoria.getCardinalidade();
+            if (naCategoria == 0) {
+                plano = "índice de categorias: nenhum candidato";
+                return new ArrayList<>();
+            }
+            if (naCategoria < melhor) {
+                melhor = naCategoria;
+                caminho = Caminho.CATEGORIA;
+            }
+        }
+        NavigableMap<LocalDateTime, List<Evento>> faixa = null;
+        if (inicio != null || fim != null) {
+            faixa = eventoService.faixaHorario(inicio, fim);
+            long naFaixa = contarAte(faixa, melhor);
+            if (naFaixa < melhor) {
+                melhor = naFaixa;
+                caminho = Caminho.HORARIO;
+            }
+        }
+        boolean emOrdemDeHorario = ordem == OrdemConsulta.HORARIO || ordem == OrdemConsulta.HORARIO_DECRESCENTE;
+        if (caminho != Caminho.HORARIO && emOrdemDeHorario && limite < total && (long) limite * total / melhor < melhor) {
+            faixa = faixa != null ? faixa : eventoService.faixaHorario(null, null);
+            caminho = Caminho.HORARIO;
+        }
+
+        int[] candidatosNome = null;
+        if (indiceNomes != null && estimativaNome > 0
+                && (caminho == Caminho.NOME || estimativaNome <= total / FRACAO_INTERSECAO_NOMES)) {
+            candidatosNome = indiceNomes.candidatos(nome);
+        }
+        String termoNome = nome == null ? null : nome.toLowerCase();
+
+        Coletor coletor = new Coletor(caminho == Caminho.HORARIO ? emOrdemDeHorario : ordem == OrdemConsulta.CADASTRO,
+                conjuntoCategoria);
+        StringBuilder descricao = new StringBuilder();
+        switch (caminho) {
+            case NOME:
+                descricao.append("índice de nomes (").append(candidatosNome.length).append(" candidatos)");
+                for (int posicao : candidatosNome) {
+                    if (coletor.avaliar(eventos.get(posicao), posicao, termoNome, null)) {
+                        break;
+                    }
+                }
+                break;
+            case CATEGORIA:
+                descricao.append("índice de categorias (").append(melhor).append(" eventos)");
+                for (int posicao = conjuntoCategoria.proximo(0); posicao >= 0 && posicao < total;
+                     posicao = conjuntoCategoria.proximo(posicao + 1)) {
+                    if (coletor.avaliar(eventos.get(posicao), posicao, termoNome, candidatosNome)) {
+                        break;
+                    }
+                }
+                break;
+            case HORARIO:
+                NavigableMap<LocalDateTime, List<Evento>> percurso =
+                        ordem == OrdemConsulta.HORARIO_DECRESCENTE ? faixa.descendingMap() : faixa;
+                descricao.append(inicio == null && fim == null ? "ordem de horário" : "faixa de horário");
+                percorrer:
+                for (List<Evento> lista : percurso.values()) {
+                    for (Evento evento : lista) {
+                        if (coletor.avaliar(evento, eventoService.posicao(evento), termoNome, candidatosNome)) {
+                            break percorrer;
+                        }
+                    }
+                }
+                break;
+            default:
+                descricao.append("varredura completa");
+                for (int posicao = 0; posicao < total; posicao++) {
+                    if (coletor.avaliar(eventos.get(posicao), posicao, termoNome, candidatosNome)) {
+                        break;
+                    }
+                }
+        }
+        if (candidatosNome != null && caminho != Caminho.NOME) {
+            descricao.append(" ∩ índice de nomes (").append(candidatosNome.length).append(')');
+        }
+        plano = descricao.toString();
+        return coletor.resultado();
+    }
+
+    private static long contarAte(NavigableMap<LocalDateTime, List<Evento>> faixa, long teto) {
+        long contagem = 0;
+        for (List<Evento> lista : faixa.values()) {
+            contagem += lista.size();
+            if (contagem >= teto) {
+                return teto;
+            }
+        }
+        return contagem;
+    }
+
+    private boolean aceita(Evento evento, String termoNome, int[] candidatosNome, int posicao,
+                           ConjuntoBits conjuntoCategoria) {
+        if (conjuntoCategoria != null && !conjuntoCategoria.contem(posicao)) {
+            return false;
+        }
+        if (inicio != null || fim != null) {
+            LocalDateTime horario = evento.getHorario();
+            if ((inicio != null && horario.isBefore(inicio)) || (fim != null && !horario.isBefore(fim))) {
+                return false;
+            }
+        }
+        int participantes = evento.getTotalParticipantes();
+        if (participantes < minimoParticipantes || participantes > maximoParticipantes) {
+            return false;
+        }
+        if (candidatosNome != null && Arrays.binarySearch(candidatosNome, posicao) < 0) {
+            return false;
+        }
+        if (termoNome != null && !evento.getNome().toLowerCase().contains(termoNome)) {
+            return false;
+        }
+        return endereco == null || evento.getEndereco().toLowerCase().contains(endereco);
+    }
+
+    private Comparator<Candidato> comparador() {
+        Comparator<Candidato> desempate = Comparator.comparingInt(c -> c.posicao);
+        Comparator<Candidato> porHorario = Comparator.<Candidato>comparingLong(c -> c.chave)
+                .thenComparingInt(c -> c.nanos);
+        switch (ordem) {
+            case HORARIO:
+                return porHorario.thenComparing(desempate);
+            case HORARIO_DECRESCENTE:
+                return porHorario.reversed().thenComparing(desempate);
+            case PARTICIPANTES:
+                return Comparator.<Candidato>comparingLong(c -> -c.chave).thenComparing(desempate);
+            default:
+                return desempate;
+        }
+    }
+
+    private Candidato candidato(Evento evento, int posicao) {
+        if (ordem == OrdemConsulta.PARTICIPANTES) {
+            return new Candidato(evento, posicao, evento.getTotalParticipantes(), 0);
+        }
+        return new Candidato(evento, posicao, evento.getHorarioEmSegundos(), evento.getHorarioNanos());
+    }
+
+    private enum Caminho {
+        VARREDURA,
+        NOME,
+        CATEGORIA,
+        HORARIO
+    }
+
+    private static class Candidato {
+        private final Evento evento;
+        private final int posicao;
+        private final long chave;
+        private final int nanos;
+
+        Candidato(Evento evento, int posicao, long chave, int nanos) {
+            this.evento = evento;
+            this.posicao = posicao;
+            this.chave = chave;
+            this.nanos = nanos;
+        }
+    }
+
+    private class Coletor {
+        private final boolean emOrdem;
+        private final ConjuntoBits conjuntoCategoria;
+        private final Comparator<Candidato> comparador = comparador();
+        private final PriorityQueue<Candidato> melhores = new PriorityQueue<>(comparador.reversed());
+        private final List<Evento> aceitos = new ArrayList<>();
+
+        Coletor(boolean emOrdem, ConjuntoBits conjuntoCategoria) {
+            this.emOrdem = emOrdem;
+            this.conjuntoCategoria = conjuntoCategoria;
+        }
+
+        boolean avaliar(Evento evento, int posicao, String termoNome, int[] candidatosNome) {
+            if (!aceita(evento, termoNome, candidatosNome, posicao, conjuntoCategoria)) {
+                return false;
+            }
+            if (emOrdem) {
+                aceitos.add(evento);
+                return aceitos.size() >= limite;
+            }
+            melhores.add(candidato(evento, posicao));
+            if (melhores.size() > limite) {
+                melhores.poll();
+            }
+            return false;
+        }
+
+        List<Evento> resultado() {
+            if (emOrdem) {
+                return aceitos;
+            }
+            List<Candidato> candidatos = new ArrayList<>(melhores);
+            candidatos.sort(comparador);
+            List<Evento> resultado = new ArrayList<>(candidatos.size());
+            for (Candidato candidato : candidatos) {
+                resultado.add(candidato.evento);
+            }
+            return resultado;
+        }
+    }
+}
@@ -1,149 +1,588 @@
 package service;
 
 import model.*;
+import util.CacheResultados;
+import util.ConjuntoBits;
+import util.IndiceTrigramas;
+import util.ListaAnexavel;
+import util.Metricas;
+import util.Pagina;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class EventoService implements Serializable {
     private static final long serialVersionUID = 1L;
+    private static final int TOP_PARTICIPANTES = 5;
+    private static final long LIMITE_CACHE = 4_000_000;
+    private static final long BALDE_AGORA_S = 60;
+    private static final Metricas.Operacao METRICA_PARTICIPAR = Metricas.operacao("eventos.participar");
+    private static final Metricas.Operacao METRICA_CANCELAR = Metricas.operacao("eventos.cancelarParticipacao");
+    private static final Metricas.Operacao METRICA_BUSCA_NOME = Metricas.operacao("eventos.buscarPorNome");
+    private static final Metricas.Operacao METRICA_BUSCA_CATEGORIA = Metricas.operacao("eventos.buscarPorCategoria");
+    private static final Metricas.Operacao METRICA_BUSCA_DATA = Metricas.operacao("eventos.buscarPorData");
+    private static final Metricas.Operacao METRICA_FUTUROS = Metricas.operacao("eventos.eventosFuturos");
+    private static final Metricas.Operacao METRICA_AGORA = Metricas.operacao("eventos.eventosOcorrendoAgora");
+    private static final Metricas.Operacao METRICA_PASSADOS = Metricas.operacao("eventos.eventosPassados");
+    private static final Metricas.Operacao METRICA_RELATORIO = Metricas.operacao("eventos.gerarRelatorioEventos");
+    private static final DateTimeFormatter DATA_PAINEL = DateTimeFormatter.ofPattern("dd/MM/yyyy");
     private List<Evento> eventos;
+    private transient Map<Integer, Evento> eventosPorId;
+    private transient Map<Evento, Integer> posicoes;
+    private transient NavigableMap<LocalDateTime, List<Evento>> eventosPorHorario;
+    private transient volatile IndiceTrigramas<Evento> indiceNomes;
+    private transient ConjuntoBits[] eventosPorCategoria;
+    private transient AtomicLong versao;
+    private transient CacheResultados<String, List<Evento>> cache;
+    private transient AgregadosEventos agregados;
+    private transient TabelaEventos tabela;
+    private transient BitSet linhasAlteradas;
+    private transient volatile AgendadorNotificacoes agendador;
 
     public EventoService() {
-        eventos = new ArrayList<>();
+        eventos = new ListaAnexavel<>();
+        eventosPorId = new ConcurrentHashMap<>();
+        posicoes = new ConcurrentHashMap<>();
+        eventosPorHorario = new ConcurrentSkipListMap<>();
+        agregados = new AgregadosEventos(eventosPorHorario, TOP_PARTICIPANTES, posicoes);
+        eventosPorCategoria = novoIndiceCategorias();
+        versao = new AtomicLong();
+        cache = new CacheResultados<>(LIMITE_CACHE, List::size);
+        tabela = TabelaEventos.vazia();
+        linhasAlteradas = new BitSet();
+    }
+
+    public synchronized void setAgendador(AgendadorNotificacoes agendador) {
+        this.agendador = agendador;
+        if (agendador != null) {
+            agendador.agendarTodos(eventos);
+        }
     }
 
     public void adicionarEvento(Evento evento) {
+        adicionarEvento(evento, () -> { });
+    }
+
+    public synchronized <X extends Exception> void adicionarEvento(Evento evento, RegistroMutacao<X> registro) throws X {
+        try {
+            registro.registrar();
+        } finally {
+            publicar(evento);
+        }
+    }
+
+    private void publicar(Evento evento) {
+        posicoes.put(evento, eventos.size());
+        eventosPorId.put(evento.getId(), evento);
+        eventosPorHorario.computeIfAbsent(evento.getHorario(), h -> new CopyOnWriteArrayList<>()).add(evento);
+        agregados.registrar(evento);
+        eventosPorCategoria[evento.getCategoria().ordinal()].adicionar(eventos.size());
+        if (indiceNomes != null) {
+            indiceNomes.adicionar(evento, evento.getNome());
+        }
         eventos.add(evento);
+        versao.incrementAndGet();
+        if (agendador != null) {
+            agendador.agendar(evento);
+        }
+    }
+
+    public synchronized List<Evento> adicionarEventos(List<Evento> novos) {
+        List<Evento> recusados = new ArrayList<>();
+        for (Evento evento : novos) {
+            if (eventosPorId.containsKey(evento.getId())) {
+                recusados.add(evento);
+            } else {
+                adicionarEvento(evento);
+            }
+        }
+        return recusados;
     }
 
-    public void setEventos(List<Evento> eventos) {
-        this.eventos = eventos;
+    public synchronized void setEventos(List<Evento> eventos) {
+        if (agendador != null) {
+            agendador.cancelarTodos(this.eventos);
+        }
+        this.eventos = new ListaAnexavel<>();
+        eventosPorId = new ConcurrentHashMap<>();
+        posicoes = new ConcurrentHashMap<>();
+        eventosPorHorario = new ConcurrentSkipListMap<>();
+        agregados = new AgregadosEventos(eventosPorHorario, TOP_PARTICIPANTES, posicoes);
+        eventosPorCategoria = novoIndiceCategorias();
+        tabela = TabelaEventos.vazia();
+        synchronized (linhasAlteradas) {
+            linhasAlteradas.clear();
+        }
+        indiceNomes = null;
+        versao.incrementAndGet();
+        eventos.forEach(this::adicionarEvento);
+    }
+
+    private static ConjuntoBits[] novoIndiceCategorias() {
+        ConjuntoBits[] indice = new ConjuntoBits[Categoria.values().length];
+        for (int i = 0; i < indice.length; i++) {
+            indice[i] = new ConjuntoBits();
+        }
+        return indice;
+    }
+
+    public Evento buscarPorId(int id) {
+        return eventosPorId.get(id);
     }
 
     public List<Evento> getEventos() {
         return eventos;
     }
 
+    public boolean participar(Usuario usuario, Evento evento) {
+        return participar(usuario, evento, () -> { });
+    }
+
+    public <X extends Exception> boolean participar(Usuario usuario, Evento evento, RegistroMutacao<X> registro)
+            throws X {
+        long inicio = METRICA_PARTICIPAR.iniciar();
+        boolean confirmado = false;
+        try {
+            synchronized (evento) {
+                confirmado = evento.adicionarParticipante(usuario);
+                if (confirmado) {
+                    usuario.participarEvento(evento);
+                }
+                if (confirmado || evento.estaNaListaDeEspera(usuario)) {
+                    registro.registrar();
+                }
+            }
+        } finally {
+            if (confirmado) {
+                agregados.participacaoAlterada(evento);
+                marcarAlterada(evento);
+                versao.incrementAndGet();
+                if (agendador != null) {
+                    agendador.participacaoConfirmada(usuario, evento);
+                }
+            }
+            METRICA_PARTICIPAR.registrar(inicio);
+        }
+        return confirmado;
+    }
+
+    public boolean cancelarParticipacao(Usuario usuario, Evento evento) {
+        return cancelarParticipacao(usuario, evento, () -> { });
+    }
+
+    public <X extends Exception> boolean cancelarParticipacao(Usuario usuario, Evento evento,
+                                                             RegistroMutacao<X> registro) throws X {
+        long inicio = METRICA_CANCELAR.iniciar();
+        boolean cancelado = false;
+        boolean participava = false;
+        List<Usuario> promovidos = new ArrayList<>(1);
+        try {
+            synchronized (evento) {
+                cancelado = evento.sairDaListaDeEspera(usuario);
+                if (!cancelado && evento.removerParticipante(usuario, promovidos)) {
+                    usuario.cancelarEvento(evento);
+                    cancelado = participava = true;
+                }
+                if (cancelado) {
+                    registro.registrar();
+                }
+            }
+        } finally {
+            if (participava) {
+                agregados.participacaoAlterada(evento);
+                marcarAlterada(evento);
+                if (agendador != null) {
+                    agendador.participacaoCancelada(usuario, evento);
+                    for (Usuario promovido : promovidos) {
+                        agendador.participacaoConfirmada(promovido, evento);
+                    }
+                }
+            }
+            if (cancelado) {
+                versao.incrementAndGet();
+            }
+            METRICA_CANCELAR.registrar(inicio);
+        }
+        return cancelado;
+    }
+
+    private void marcarAlterada(Evento evento) {
+        Integer posicao = posicoes.get(evento);
+        if (posicao != null) {
+            synchronized (linhasAlteradas) {
+                linhasAlteradas.set(posicao);
+            }
+        }
+    }
+
+    public synchronized TabelaEventos tabelaColunar() {
+        BitSet alteradas;
+        synchronized (linhasAlteradas) {
+            alteradas = (BitSet) linhasAlteradas.clone();
+            linhasAlteradas.clear();
+        }
+        tabela = tabela.atualizar(eventos, alteradas);
+        return tabela;
+    }
+
     public List<Evento> buscarPorNome(String nome) {
-        return eventos.stream()
-                .filter(e -> e.getNome().toLowerCase().contains(nome.toLowerCase()))
-                .collect(Collectors.toList());
+        long inicio = METRICA_BUSCA_NOME.iniciar();
+        List<Evento> resultado = obterIndiceNomes().buscar(nome);
+        METRICA_BUSCA_NOME.registrar(inicio);
+        return resultado;
+    }
+
+    IndiceTrigramas<Evento> obterIndiceNomes() {
+        IndiceTrigramas<Evento> indice = indiceNomes;
+        if (indice == null) {
+            synchronized (this) {
+                if (indiceNomes == null) {
+                    IndiceTrigramas<Evento> novo = new IndiceTrigramas<>();
+                    eventos.forEach(e -> novo.adicionar(e, e.getNome()));
+                    indiceNomes = novo;
+                }
+                indice = indiceNomes;
+            }
+        }
+        return indice;
+    }
+
+    public ConsultaEventos consulta() {
+        return new ConsultaEventos(this);
+    }
+
+    NavigableMap<LocalDateTime, List<Evento>> faixaHorario(LocalDateTime inicio, LocalDateTime fim) {
+        if (inicio == null && fim == null) {
+            return eventosPorHorario;
+        }
+        if (inicio == null) {
+            return eventosPorHorario.headMap(fim, false);
+        }
+        return fim == null ? eventosPorHorario.tailMap(inicio, true) : eventosPorHorario.subMap(inicio, true, fim, false);
+    }
+
+    int posicao(Evento evento) {
+        return posicoes.get(evento);
+    }
+
+    ConjuntoBits conjuntoCategoria(Categoria categoria) {
+        return eventosPorCategoria[categoria.ordinal()];
+    }
+
+    public synchronized Map<Categoria, Long> contarPorCategoria() {
+        Map<Categoria, Long> contagem = new EnumMap<>(Categoria.class);
+        for (Categoria categoria : Categoria.values()) {
+            int quantidade = eventosPorCategoria[categoria.ordinal()].getCardinalidade();
+            if (quantidade > 0) {
+                contagem.put(categoria, (long) quantidade);
+            }
+        }
+        return contagem;
     }
 
     public List<Evento> buscarPorCategoria(Categoria categoria) {
-        return eventos.stream()
-                .filter(e -> e.getCategoria() == categoria)
-                .collect(Collectors.toList());
+        long inicio = METRICA_BUSCA_CATEGORIA.iniciar();
+        List<Evento> resultado = cache.obter("categoria:" + categoria.name(), versao.get(), () -> {
+            ConjuntoBits conjunto = eventosPorCategoria[categoria.ordinal()];
+            int total = eventos.size();
+            List<Evento> encontrados = new ArrayList<>(conjunto.getCardinalidade());
+            for (int posicao = conjunto.proximo(0); posicao >= 0 && posicao < total;
+                 posicao = conjunto.proximo(posicao + 1)) {
+                encontrados.add(eventos.get(posicao));
+            }
+            return Collections.unmodifiableList(encontrados);
+        });
+        METRICA_BUSCA_CATEGORIA.registrar(inicio);
+        return resultado;
     }
 
     public List<Evento> buscarPorData(LocalDateTime data) {
-        return eventos.stream()
-                .filter(e -> e.getHorario().toLocalDate().equals(data.toLocalDate()))
-                .collect(Collectors.toList());
+        long inicioMedicao = METRICA_BUSCA_DATA.iniciar();
+        LocalDateTime inicio = data.toLocalDate().atStartOfDay();
+        List<Evento> resultado = emOrdemDeCadastro(eventosPorHorario.subMap(inicio, true, inicio.plusDays(1), false));
+        METRICA_BUSCA_DATA.registrar(inicioMedicao);
+        return resultado;
     }
 
     public List<Evento> eventosFuturos() {
-        return eventos.stream()
-                .filter(e -> e.getHorario().isAfter(LocalDateTime.now()))
-                .sorted(Comparator.comparing(Evento::getHorario))
-                .collect(Collectors.toList());
+        long inicio = METRICA_FUTUROS.iniciar();
+        LocalDateTime agora = LocalDateTime.now();
+        long balde = balde(agora);
+        List<Evento> candidatos = cache.obter("futuros:" + balde, versao.get(),
+                () -> Collections.unmodifiableList(achatar(eventosPorHorario.tailMap(inicioBalde(balde), false))));
+        List<Evento> resultado = candidatos.subList(primeiroDepois(candidatos, agora), candidatos.size());
+        METRICA_FUTUROS.registrar(inicio);
+        return resultado;
     }
 
     public List<Evento> eventosOcorrendoAgora() {
-        return eventos.stream()
-                .filter(e -> e.getHorario().isBefore(LocalDateTime.now().plusHours(1))
-                          && e.getHorario().isAfter(LocalDateTime.now().minusHours(1)))
-                .collect(Collectors.toList());
+        long inicio = METRICA_AGORA.iniciar();
+        LocalDateTime agora = LocalDateTime.now();
+        long balde = balde(agora);
+        List<Evento> candidatos = cache.obter("agora:" + balde, versao.get(), () -> {
+            LocalDateTime inicioJanela = inicioBalde(balde);
+            return Collections.unmodifiableList(emOrdemDeCadastro(eventosPorHorario.subMap(inicioJanela.minusHours(1),
+                    false, inicioJanela.plusSeconds(BALDE_AGORA_S).plusHours(1), false)));
+        });
+        LocalDateTime desde = agora.minusHours(1);
+        LocalDateTime ate = agora.plusHours(1);
+        List<Evento> resultado = new ArrayList<>();
+        for (Evento evento : candidatos) {
+            LocalDateTime horario = evento.getHorario();
+            if (horario.isAfter(desde) && horario.isBefore(ate)) {
+                resultado.add(evento);
+            }
+        }
+        METRICA_AGORA.registrar(inicio);
+        return resultado;
     }
 
-    public List<Evento> eventosPassados() {
-        return eventos.stream()
-                .filter(e -> e.getHorario().isBefore(LocalDateTime.now()))
-                .sorted(Comparator.comparing(Evento::getHorario).reversed())
-                .collect(Collectors.toList());
+    private static long balde(LocalDateTime agora) {
+        return Math.floorDiv(agora.toEpochSecond(ZoneOffset.UTC), BALDE_AGORA_S);
     }
 
-    public void listarEventosOrdenados() {
-        if (eventos.isEmpty()) {
-            System.out.println("Não há eventos cadastrados.");
-            return;
+    private static LocalDateTime inicioBalde(long balde) {
+        return LocalDateTime.ofEpochSecond(balde * BALDE_AGORA_S, 0, ZoneOffset.UTC);
+    }
+
+    private static int primeiroDepois(List<Evento> ordenados, LocalDateTime agora) {
+        int inicio = 0;
+        int fim = ordenados.size();
+        while (inicio < fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (ordenados.get(meio).getHorario().isAfter(agora)) {
+                fim = meio;
+            } else {
+                inicio = meio + 1;
+            }
         }
-        System.out.println("\nEventos cadastrados:");
-        eventos.stream()
-              .sorted(Comparator.comparing(Evento::getHorario))
-              .forEach(System.out::println);
+        return inicio;
+    }
+
+    public List<Evento> eventosPassados() {
+        long inicio = METRICA_PASSADOS.iniciar();
+        List<Evento> resultado = achatar(eventosPorHorario.headMap(LocalDateTime.now(), false).descendingMap());
+        METRICA_PASSADOS.registrar(inicio);
+        return resultado;
+    }
+
+    private List<Evento> achatar(NavigableMap<LocalDateTime, List<Evento>> faixa) {
+        List<Evento> resultado = new ArrayList<>();
+        faixa.values().forEach(resultado::addAll);
+        return resultado;
     }
 
-    public void listarEventosEmAndamento() {
-        List<Evento> emAndamento = eventosOcorrendoAgora();
-        if (emAndamento.isEmpty()) {
-            System.out.println("Não há eventos em andamento no momento.");
-            return;
+    private List<Evento> emOrdemDeCadastro(NavigableMap<LocalDateTime, List<Evento>> faixa) {
+        List<Evento> resultado = achatar(faixa);
+        resultado.sort(Comparator.comparing(posicoes::get));
+        return resultado;
+    }
+
+    public List<Evento> eventosOrdenados() {
+        return cache.obter("ordenados", versao.get(), () -> Collections.unmodifiableList(achatar(eventosPorHorario)));
+    }
+
+    public CacheResultados<String, List<Evento>> getCache() {
+        return cache;
+    }
+
+    public Pagina<Evento> paginaEventosOrdenados(String cursor, int tamanho) {
+        return paginarPorHorario(eventosPorHorario, cursor, tamanho);
+    }
+
+    public Pagina<Evento> paginaEventosFuturos(String cursor, int tamanho) {
+        return paginarPorHorario(eventosPorHorario.tailMap(LocalDateTime.now(), false), cursor, tamanho);
+    }
+
+    public Pagina<Evento> paginaEventosOcorrendoAgora(String cursor, int tamanho) {
+        LocalDateTime agora = LocalDateTime.now();
+        return paginarPorHorario(eventosPorHorario.subMap(agora.minusHours(1), false, agora.plusHours(1), false),
+                cursor, tamanho);
+    }
+
+    public Pagina<Evento> paginaEventosPassados(String cursor, int tamanho) {
+        return paginarPorHorario(eventosPorHorario.headMap(LocalDateTime.now(), false).descendingMap(), cursor, tamanho);
+    }
+
+    public Pagina<Evento> paginaPorData(LocalDateTime data, String cursor, int tamanho) {
+        LocalDateTime inicio = data.toLocalDate().atStartOfDay();
+        return paginarPorHorario(eventosPorHorario.subMap(inicio, true, inicio.plusDays(1), false), cursor, tamanho);
+    }
+
+    public Pagina<Evento> paginaPorNome(String nome, String cursor, int tamanho) {
+        List<Evento> itens = new ArrayList<>(tamanho);
+        int proximo = obterIndiceNomes().buscar(nome, lerPosicao(cursor), tamanho, itens);
+        return new Pagina<>(itens, proximo < 0 ? null : Integer.toString(proximo));
+    }
+
+    public Pagina<Evento> paginaPorCategoria(Categoria categoria, String cursor, int tamanho) {
+        ConjuntoBits conjunto = eventosPorCategoria[categoria.ordinal()];
+        int total = eventos.size();
+        List<Evento> itens = new ArrayList<>(tamanho);
+        for (int posicao = conjunto.proximo(lerPosicao(cursor)); posicao >= 0 && posicao < total;
+             posicao = conjunto.proximo(posicao + 1)) {
+            if (itens.size() == tamanho) {
+                return new Pagina<>(itens, Integer.toString(posicao));
+            }
+            itens.add(eventos.get(posicao));
         }
-        System.out.println("\nEventos em andamento:");
-        emAndamento.forEach(System.out::println);
+        return new Pagina<>(itens, null);
     }
 
-    public void listarEventosPassados() {
-        List<Evento> passados = eventosPassados();
-        if (passados.isEmpty()) {
-            System.out.println("Não há eventos passados.");
-            return;
+    public Pagina<Evento> paginaEventosDoUsuario(Usuario usuario, String cursor, int tamanho) {
+        int inicio = lerPosicao(cursor);
+        PriorityQueue<Integer> primeiras = new PriorityQueue<>(tamanho + 2, Comparator.reverseOrder());
+        for (Evento evento : usuario.getEventosConfirmados()) {
+            Integer posicao = posicoes.get(evento);
+            if (posicao != null && posicao >= inicio) {
+                primeiras.add(posicao);
+                if (primeiras.size() > tamanho + 1) {
+                    primeiras.poll();
+                }
+            }
         }
-        System.out.println("\nEventos passados:");
-        passados.forEach(System.out::println);
+        String proximo = primeiras.size() > tamanho ? Integer.toString(primeiras.poll()) : null;
+        Evento[] itens = new Evento[primeiras.size()];
+        for (int i = itens.length - 1; i >= 0; i--) {
+            itens[i] = eventos.get(primeiras.poll());
+        }
+        return new Pagina<>(Arrays.asList(itens), proximo);
     }
 
-    public void verificarNotificacoes(Usuario usuario) {
-        LocalDateTime agora = LocalDateTime.now();
-        List<Evento> eventosProximos = usuario.getEventosConfirmados().stream()
-                .filter(e -> e.getHorario().isAfter(agora))
-                .sorted(Comparator.comparing(Evento::getHorario))
-                .collect(Collectors.toList());
-
-        if (!eventosProximos.isEmpty()) {
-            System.out.println("\n=== Notificações de Eventos ===");
-            for (Evento evento : eventosProximos) {
-                long horasAteEvento = ChronoUnit.HOURS.between(agora, evento.getHorario());
-                if (horasAteEvento <= 24) {
-                    System.out.println("\nEvento próximo: " + evento.getNome());
-                    System.out.println("Horário: " + evento.getHorario());
-                    System.out.println("Local: " + evento.getEndereco());
-                    if (horasAteEvento < 1) {
-                        System.out.println("O evento começa em menos de 1 hora!");
-                    } else {
-                        System.out.println("O evento começa em " + horasAteEvento + " horas!");
-                    }
+    private Pagina<Evento> paginarPorHorario(NavigableMap<LocalDateTime, List<Evento>> faixa, String cursor, int tamanho) {
+        LocalDateTime horario = null;
+        int indice = 0;
+        if (cursor != null) {
+            String[] partes = cursor.split(":");
+            try {
+                horario = LocalDateTime.ofEpochSecond(Long.parseLong(partes[0]), Integer.parseInt(partes[1]), ZoneOffset.UTC);
+                indice = Integer.parseInt(partes[2]);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Cursor inválido: " + cursor);
+            }
+            faixa = aPartirDe(faixa, horario);
+        }
+        List<Evento> itens = new ArrayList<>(tamanho);
+        for (Map.Entry<LocalDateTime, List<Evento>> entrada : faixa.entrySet()) {
+            List<Evento> lista = entrada.getValue();
+            for (int i = entrada.getKey().equals(horario) ? indice : 0; i < lista.size(); i++) {
+                if (itens.size() == tamanho) {
+                    LocalDateTime chave = entrada.getKey();
+                    return new Pagina<>(itens, chave.toEpochSecond(ZoneOffset.UTC) + ":" + chave.getNano() + ":" + i);
                 }
+                itens.add(lista.get(i));
+            }
+        }
+        return new Pagina<>(itens, null);
+    }
+
+    private static NavigableMap<LocalDateTime, List<Evento>> aPartirDe(NavigableMap<LocalDateTime, List<Evento>> faixa,
+                                                                      LocalDateTime horario) {
+        if (faixa.isEmpty()) {
+            return faixa;
+        }
+        Comparator<? super LocalDateTime> ordem = faixa.comparator() != null
+                ? faixa.comparator() : Comparator.naturalOrder();
+        if (ordem.compare(horario, faixa.firstKey()) <= 0) {
+            return faixa;
+        }
+        if (ordem.compare(horario, faixa.lastKey()) > 0) {
+            return faixa.tailMap(faixa.lastKey(), false);
+        }
+        return faixa.tailMap(horario, true);
+    }
+
+    private static int lerPosicao(String cursor) {
+        if (cursor == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + cursor);
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        List<Evento> salvos = eventos == null ? new ArrayList<>() : eventos;
+        versao = new AtomicLong();
+        cache = new CacheResultados<>(LIMITE_CACHE, List::size);
+        linhasAlteradas = new BitSet();
+        setEventos(salvos);
+    }
+
+    public void gerarPainelEventos(int semanas) {
+        TabelaEventos colunas = tabelaColunar();
+        LocalDateTime inicio = LocalDateTime.now().toLocalDate().atStartOfDay();
+        long largura = 7L * 24 * 60 * 60;
+        int[] histograma = colunas.histogramaPorCategoria(inicio.toEpochSecond(ZoneOffset.UTC), largura, semanas);
+        Categoria[] categorias = Categoria.values();
+
+        System.out.println("\n=== Painel de Eventos (próximas " + semanas + " semanas) ===");
+        StringBuilder cabecalho = new StringBuilder(String.format("%-12s", "Semana"));
+        for (Categoria categoria : categorias) {
+            cabecalho.append(String.format("%12s", categoria));
+        }
+        System.out.println(cabecalho);
+        for (int semana = 0; semana < semanas; semana++) {
+            StringBuilder linha = new StringBuilder(String.format("%-12s",
+                    inicio.plusWeeks(semana).format(DATA_PAINEL)));
+            for (Categoria categoria : categorias) {
+                linha.append(String.format("%12d", histograma[categoria.ordinal() * semanas + semana]));
             }
+            System.out.println(linha);
         }
     }
 
     public void gerarRelatorioEventos() {
+        gerarRelatorioEventos(1);
+    }
+
+    public void gerarRelatorioEventos(int paralelismo) {
+        long inicio = METRICA_RELATORIO.iniciar();
+        Map<Categoria, Long> porCategoria;
+        long[] porPeriodo;
+        int total;
+        synchronized (this) {
+            total = eventos.size();
+            porCategoria = contarPorCategoria();
+            porPeriodo = agregados.contarPorPeriodo(LocalDateTime.now());
+        }
+
         System.out.println("\n=== Relatório de Eventos ===");
-        System.out.println("\nTotal de eventos: " + eventos.size());
+        System.out.println("\nTotal de eventos: " + total);
         
         System.out.println("\nEventos por categoria:");
-        eventos.stream()
-              .collect(Collectors.groupingBy(Evento::getCategoria, Collectors.counting()))
-              .forEach((categoria, quantidade) -> 
+        porCategoria.forEach((categoria, quantidade) -> 
                   System.out.println(categoria + ": " + quantidade + " eventos")
               );
 
-        System.out.println("\nEventos futuros: " + eventosFuturos().size());
-        System.out.println("Eventos em andamento: " + eventosOcorrendoAgora().size());
-        System.out.println("Eventos passados: " + eventosPassados().size());
+        System.out.println("\nEventos futuros: " + porPeriodo[0]);
+        System.out.println("Eventos em andamento: " + porPeriodo[1]);
+        System.out.println("Eventos passados: " + porPeriodo[2]);
 
         System.out.println("\nEventos com mais participantes:");
-        eventos.stream()
-              .sorted(Comparator.comparing(e -> e.getParticipantes().size(), Comparator.reverseOrder()))
-              .limit(5)
-              .forEach(e -> System.out.println(e.getNome() + ": " + e.getParticipantes().size() + " participantes"));
+        agregados.maisParticipantes(eventos, paralelismo)
+              .forEach(e -> System.out.println(e.getNome() + ": " + e.getTotalParticipantes() + " participantes"));
+        METRICA_RELATORIO.registrar(inicio);
     }
-}
\ No newline at end of file
+}
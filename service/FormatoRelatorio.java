@@ -0,0 +1,7 @@
+package service;
+
+public enum FormatoRelatorio {
+    TEXTO,
+    CSV,
+    JSONL
+}
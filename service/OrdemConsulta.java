@@ -0,0 +1,8 @@
+package service;
+
+public enum OrdemConsulta {
+    CADASTRO,
+    HORARIO,
+    HORARIO_DECRESCENTE,
+    PARTICIPANTES
+}
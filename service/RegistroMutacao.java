@@ -0,0 +1,5 @@
+package service;
+
+public interface RegistroMutacao<X extends Exception> {
+    void registrar() throws X;
+}
@@ -0,0 +1,202 @@
+package service;
+
+import model.Categoria;
+import model.Evento;
+import model.Usuario;
+import util.Formatos;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.List;
+
+public class RelatorioUsuarios {
+    private static final String SEPARADOR = "----------------------------------------";
+    private static final Categoria[] CATEGORIAS = Categoria.values();
+
+    private final Writer saida;
+    private final FormatoRelatorio formato;
+    private final String quebra;
+    private final int[] porCategoria = new int[CATEGORIAS.length];
+
+    public RelatorioUsuarios(Writer saida, FormatoRelatorio formato) {
+        this.saida = saida;
+        this.formato = formato;
+        this.quebra = formato == FormatoRelatorio.TEXTO ? System.lineSeparator() : "\n";
+    }
+
+    public void cabecalhoParticipacao() throws IOException {
+        switch (formato) {
+            case TEXTO:
+                linha("");
+                linha("=== Relatório de Participação em Eventos ===");
+                break;
+            case CSV:
+                linha("usuario_id,nome,email,total_eventos,evento_id,evento_nome,categoria");
+                break;
+            default:
+                break;
+        }
+    }
+
+    public void participacao(Usuario usuario) throws IOException {
+        List<Evento> confirmados = usuario.getEventosConfirmados();
+        switch (formato) {
+            case TEXTO:
+                linha("");
+                saida.write("Usuário: ");
+                linha(usuario.getNome());
+                saida.write("E-mail: ");
+                linha(usuario.getEmail());
+                saida.write("Total de eventos confirmados: ");
+                linha(Integer.toString(confirmados.size()));
+                if (!confirmados.isEmpty()) {
+                    linha("");
+                    linha("Eventos confirmados:");
+                    for (Evento evento : confirmados) {
+                        saida.write("- ");
+                        saida.write(evento.getNome());
+                        saida.write(" (");
+                        saida.write(evento.getCategoria().name());
+                        linha(")");
+                    }
+                }
+                linha(SEPARADOR);
+                break;
+            case CSV:
+                if (confirmados.isEmpty()) {
+                    colunasUsuario(usuario, 0);
+                    linha(",,,");
+                }
+                for (Evento evento : confirmados) {
+                    colunasUsuario(usuario, confirmados.size());
+                    saida.write(',');
+                    saida.write(Integer.toString(evento.getId()));
+                    saida.write(',');
+                    csv(evento.getNome());
+                    saida.write(',');
+                    linha(evento.getCategoria().name());
+                }
+                break;
+            case JSONL:
+                saida.write("{\"id\":");
+                saida.write(Integer.toString(usuario.getId()));
+                saida.write(",\"nome\":");
+                json(usuario.getNome());
+                saida.write(",\"email\":");
+                json(usuario.getEmail());
+                saida.write(",\"totalEventosConfirmados\":");
+                saida.write(Integer.toString(confirmados.size()));
+                saida.write(",\"eventos\":[");
+                for (int i = 0; i < confirmados.size(); i++) {
+                    Evento evento = confirmados.get(i);
+                    saida.write(i == 0 ? "{\"id\":" : ",{\"id\":");
+                    saida.write(Integer.toString(evento.getId()));
+                    saida.write(",\"nome\":");
+                    json(evento.getNome());
+                    saida.write(",\"categoria\":\"");
+                    saida.write(evento.getCategoria().name());
+                    saida.write("\"}");
+                }
+                linha("]}");
+                break;
+        }
+    }
+
+    public void cabecalhoCategorias() throws IOException {
+        switch (formato) {
+            case TEXTO:
+                linha("");
+                linha("=== Relatório de Preferências por Categoria ===");
+                break;
+            case CSV:
+                saida.write("usuario_id,nome");
+                for (Categoria categoria : CATEGORIAS) {
+                    saida.write(',');
+                    saida.write(categoria.name());
+                }
+                linha("");
+                break;
+            default:
+                break;
+        }
+    }
+
+    public void categorias(Usuario usuario) throws IOException {
+        contarCategorias(usuario);
+        switch (formato) {
+            case TEXTO:
+                linha("");
+                saida.write("Usuário: ");
+                linha(usuario.getNome());
+                for (Categoria categoria : CATEGORIAS) {
+                    if (porCategoria[categoria.ordinal()] > 0) {
+                        saida.write(categoria.name());
+                        saida.write(": ");
+                        saida.write(Integer.toString(porCategoria[categoria.ordinal()]));
+                        linha(" eventos");
+                    }
+                }
+                linha(SEPARADOR);
+                break;
+            case CSV:
+                saida.write(Integer.toString(usuario.getId()));
+                saida.write(',');
+                csv(usuario.getNome());
+                for (int total : porCategoria) {
+                    saida.write(',');
+                    saida.write(Integer.toString(total));
+                }
+                linha("");
+                break;
+            case JSONL:
+                saida.write("{\"id\":");
+                saida.write(Integer.toString(usuario.getId()));
+                saida.write(",\"nome\":");
+                json(usuario.getNome());
+                saida.write(",\"categorias\":{");
+                boolean primeira = true;
+                for (Categoria categoria : CATEGORIAS) {
+                    if (porCategoria[categoria.ordinal()] > 0) {
+                        saida.write(primeira ? "\"" : ",\"");
+                        saida.write(categoria.name());
+                        saida.write("\":");
+                        saida.write(Integer.toString(porCategoria[categoria.ordinal()]));
+                        primeira = false;
+                    }
+                }
+                linha("}}");
+                break;
+        }
+    }
+
+    private void contarCategorias(Usuario usuario) {
+        Arrays.fill(porCategoria, 0);
+        for (Evento evento : usuario.getEventosConfirmados()) {
+            porCategoria[evento.getCategoria().ordinal()]++;
+        }
+    }
+
+    private void colunasUsuario(Usuario usuario, int total) throws IOException {
+        saida.write(Integer.toString(usuario.getId()));
+        saida.write(',');
+        csv(usuario.getNome());
+        saida.write(',');
+        csv(usuario.getEmail());
+        saida.write(',');
+        saida.write(Integer.toString(total));
+    }
+
+    private void linha(String texto) throws IOException {
+        saida.write(texto);
+        saida.write(quebra);
+    }
+
+    private void csv(String texto) throws IOException {
+        Formatos.escreverCsv(saida, texto);
+    }
+
+    private void json(String texto) throws IOException {
+        Formatos.escreverJson(saida, texto);
+    }
+}
@@ -0,0 +1,253 @@
+package service;
+
+import model.Categoria;
+import model.Evento;
+import model.Usuario;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+public final class TabelaEventos {
+    private static final Categoria[] CATEGORIAS = Categoria.values();
+    private static final int CAPACIDADE_INICIAL = 16;
+
+    private final int tamanho;
+    private final int[] ids;
+    private final long[] horarios;
+    private final byte[] categorias;
+    private final int[] participantes;
+    private final int[] inicioAdjacencia;
+    private final int[] adjacencia;
+
+    private TabelaEventos(int tamanho, int[] ids, long[] horarios, byte[] categorias, int[] participantes,
+                          int[] inicioAdjacencia, int[] adjacencia) {
+        this.tamanho = tamanho;
+        this.ids = ids;
+        this.horarios = horarios;
+        this.categorias = categorias;
+        this.participantes = participantes;
+        this.inicioAdjacencia = inicioAdjacencia;
+        this.adjacencia = adjacencia;
+    }
+
+    static TabelaEventos vazia() {
+        return new TabelaEventos(0, new int[CAPACIDADE_INICIAL], new long[CAPACIDADE_INICIAL],
+                new byte[CAPACIDADE_INICIAL], new int[CAPACIDADE_INICIAL], new int[CAPACIDADE_INICIAL + 1],
+                new int[CAPACIDADE_INICIAL]);
+    }
+
+    TabelaEventos atualizar(List<Evento> eventos, BitSet alteradas) {
+        int novoTamanho = eventos.size();
+        int primeiraAlterada = alteradas.nextSetBit(0);
+        boolean reescrever = primeiraAlterada >= 0 && primeiraAlterada < tamanho;
+        if (novoTamanho == tamanho && !reescrever) {
+            return this;
+        }
+        int capacidade = ids.length;
+        while (capacidade < novoTamanho) {
+            capacidade *= 2;
+        }
+        int[] novosIds = capacidade == ids.length ? ids : Arrays.copyOf(ids, capacidade);
+        long[] novosHorarios = capacidade == horarios.length ? horarios : Arrays.copyOf(horarios, capacidade);
+        byte[] novasCategorias = capacidade == categorias.length ? categorias : Arrays.copyOf(categorias, capacidade);
+        int[] novosParticipantes = capacidade == participantes.length && !reescrever
+                ? participantes : Arrays.copyOf(participantes, capacidade);
+
+        Usuario[][] lidos = new Usuario[novoTamanho][];
+        int totalAdjacencia = inicioAdjacencia[tamanho];
+        for (int linha = alteradas.nextSetBit(0); linha >= 0 && linha < tamanho; linha = alteradas.nextSetBit(linha + 1)) {
+            lidos[linha] = eventos.get(linha).getParticipantes().toArray(new Usuario[0]);
+            totalAdjacencia += lidos[linha].length - participantes[linha];
+        }
+        for (int linha = tamanho; linha < novoTamanho; linha++) {
+            Evento evento = eventos.get(linha);
+            novosIds[linha] = evento.getId();
+            novosHorarios[linha] = evento.getHorarioEmSegundos();
+            novasCategorias[linha] = (byte) evento.getCategoria().ordinal();
+            lidos[linha] = evento.getParticipantes().toArray(new Usuario[0]);
+            totalAdjacencia += lidos[linha].length;
+        }
+
+        int[] novoInicio = inicioAdjacencia;
+        int[] novaAdjacencia = adjacencia;
+        int primeiraReescrita = tamanho;
+        if (reescrever) {
+            primeiraReescrita = primeiraAlterada;
+            novoInicio = new int[capacidade + 1];
+            System.arraycopy(inicioAdjacencia, 0, novoInicio, 0, primeiraReescrita + 1);
+            novaAdjacencia = new int[Math.max(CAPACIDADE_INICIAL, totalAdjacencia)];
+            System.arraycopy(adjacencia, 0, novaAdjacencia, 0, inicioAdjacencia[primeiraReescrita]);
+        } else {
+            if (capacidade + 1 > inicioAdjacencia.length) {
+                novoInicio = Arrays.copyOf(inicioAdjacencia, capacidade + 1);
+            }
+            if (totalAdjacencia > adjacencia.length) {
+                novaAdjacencia = Arrays.copyOf(adjacencia, Math.max(totalAdjacencia, adjacencia.length * 2));
+            }
+        }
+
+        int posicao = novoInicio[primeiraReescrita];
+        for (int linha = primeiraReescrita; linha < novoTamanho; linha++) {
+            Usuario[] usuarios = lidos[linha];
+            if (usuarios == null) {
+                int inicio = inicioAdjacencia[linha];
+                int quantidade = inicioAdjacencia[linha + 1] - inicio;
+                System.arraycopy(adjacencia, inicio, novaAdjacencia, posicao, quantidade);
+                posicao += quantidade;
+            } else {
+                for (Usuario usuario : usuarios) {
+                    novaAdjacencia[posicao++] = usuario.getId();
+                }
+                novosParticipantes[linha] = usuarios.length;
+            }
+            novoInicio[linha + 1] = posicao;
+        }
+        return new TabelaEventos(novoTamanho, novosIds, novosHorarios, novasCategorias, novosParticipantes,
+                novoInicio, novaAdjacencia);
+    }
+
+    public int tamanho() {
+        return tamanho;
+    }
+
+    public int id(int linha) {
+        return ids[verificar(linha)];
+    }
+
+    public long horario(int linha) {
+        return horarios[verificar(linha)];
+    }
+
+    public Categoria categoria(int linha) {
+        return CATEGORIAS[categorias[verificar(linha)]];
+    }
+
+    public int totalParticipantes(int linha) {
+        return participantes[verificar(linha)];
+    }
+
+    public int[] participantes(int linha) {
+        verificar(linha);
+        return Arrays.copyOfRange(adjacencia, inicioAdjacencia[linha], inicioAdjacencia[linha + 1]);
+    }
+
+    public long[] contarPorCategoria() {
+        long[] contagem = new long[CATEGORIAS.length];
+        for (int linha = 0; linha < tamanho; linha++) {
+            contagem[categorias[linha]]++;
+        }
+        return contagem;
+    }
+
+    public int contarEntre(long inicio, long fim) {
+        int contagem = 0;
+        for (int linha = 0; linha < tamanho; linha++) {
+            long horario = horarios[linha];
+            if (horario >= inicio && horario < fim) {
+                contagem++;
+            }
+        }
+        return contagem;
+    }
+
+    public int contarEntre(Categoria categoria, long inicio, long fim) {
+        byte ordinal = (byte) categoria.ordinal();
+        int contagem = 0;
+        for (int linha = 0; linha < tamanho; linha++) {
+            long horario = horarios[linha];
+            if (categorias[linha] == ordinal && horario >= inicio && horario < fim) {
+                contagem++;
+            }
+        }
+        return contagem;
+    }
+
+    public long[] contarPorPeriodo(long agora, long janela) {
+        long futuros = 0;
+        long emAndamento = 0;
+        long passados = 0;
+        for (int linha = 0; linha < tamanho; linha++) {
+            long horario = horarios[linha];
+            if (horario > agora) {
+                futuros++;
+            } else if (horario < agora) {
+                passados++;
+            }
+            if (horario > agora - janela && horario < agora + janela) {
+                emAndamento++;
+            }
+        }
+        return new long[]{futuros, emAndamento, passados};
+    }
+
+    public int[] histograma(long inicio, long largura, int baldes) {
+        if (largura <= 0 || baldes <= 0) {
+            throw new IllegalArgumentException("Largura e quantidade de baldes devem ser positivas");
+        }
+        int[] contagem = new int[baldes];
+        for (int linha = 0; linha < tamanho; linha++) {
+            long deslocamento = horarios[linha] - inicio;
+            if (deslocamento >= 0) {
+                long balde = deslocamento / largura;
+                if (balde < baldes) {
+                    contagem[(int) balde]++;
+                }
+            }
+        }
+        return contagem;
+    }
+
+    public int[] histogramaPorCategoria(long inicio, long largura, int baldes) {
+        if (largura <= 0 || baldes <= 0) {
+            throw new IllegalArgumentException("Largura e quantidade de baldes devem ser positivas");
+        }
+        int[] contagem = new int[CATEGORIAS.length * baldes];
+        for (int linha = 0; linha < tamanho; linha++) {
+            long deslocamento = horarios[linha] - inicio;
+            if (deslocamento >= 0) {
+                long balde = deslocamento / largura;
+                if (balde < baldes) {
+                    contagem[categorias[linha] * baldes + (int) balde]++;
+                }
+            }
+        }
+        return contagem;
+    }
+
+    public int[] maisParticipantes(int k) {
+        int[] topo = new int[Math.min(k, tamanho)];
+        int ocupados = 0;
+        for (int linha = 0; linha < tamanho; linha++) {
+            int pontuacao = participantes[linha];
+            if (ocupados == topo.length && (ocupados == 0 || pontuacao <= participantes[topo[ocupados - 1]])) {
+                continue;
+            }
+            int posicao = ocupados < topo.length ? ocupados++ : ocupados - 1;
+            while (posicao > 0 && participantes[topo[posicao - 1]] < pontuacao) {
+                topo[posicao] = topo[posicao - 1];
+                posicao--;
+            }
+            topo[posicao] = linha;
+        }
+        return topo;
+    }
+
+    public int contarParticipacoes(int usuarioId) {
+        int contagem = 0;
+        int fim = inicioAdjacencia[tamanho];
+        for (int i = 0; i < fim; i++) {
+            if (adjacencia[i] == usuarioId) {
+                contagem++;
+            }
+        }
+        return contagem;
+    }
+
+    private int verificar(int linha) {
+        if (linha < 0 || linha >= tamanho) {
+            throw new IndexOutOfBoundsException("Linha: " + linha + ", tamanho: " + tamanho);
+        }
+        return linha;
+    }
+}
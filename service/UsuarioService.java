@@ -1,40 +1,116 @@
 package service;
 
 import model.Usuario;
-import model.Evento;
+import util.IndiceTrigramas;
+import util.ListaAnexavel;
+import util.Metricas;
 
+import java.io.BufferedWriter;
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 public class UsuarioService implements Serializable {
     private static final long serialVersionUID = 1L;
+    private static final int TAMANHO_BUFFER = 1 << 16;
+    private static final int BLOCO_RELATORIO = 4096;
+    private static final Metricas.Operacao METRICA_BUSCA_EMAIL = Metricas.operacao("usuarios.buscarPorEmail");
+    private static final Metricas.Operacao METRICA_BUSCA_NOME = Metricas.operacao("usuarios.buscarPorNome");
+    private static final Metricas.Operacao METRICA_RELATORIO_PARTICIPACAO = Metricas.operacao("usuarios.relatorioParticipacao");
+    private static final Metricas.Operacao METRICA_RELATORIO_CATEGORIAS = Metricas.operacao("usuarios.relatorioCategorias");
     private List<Usuario> usuarios;
+    private transient Map<String, Usuario> usuariosPorEmail;
+    private transient volatile IndiceTrigramas<Usuario> indiceNomes;
 
     public UsuarioService() {
-        usuarios = new ArrayList<>();
+        usuarios = new ListaAnexavel<>();
+        usuariosPorEmail = new ConcurrentHashMap<>();
+    }
+
+    private static String normalizarEmail(String email) {
+        return email.toLowerCase(Locale.ROOT);
     }
 
     public void adicionarUsuario(Usuario usuario) {
-        if (buscarPorEmail(usuario.getEmail()) == null) {
-            usuarios.add(usuario);
+        adicionarUsuario(usuario, () -> { });
+    }
+
+    public synchronized <X extends Exception> void adicionarUsuario(Usuario usuario, RegistroMutacao<X> registro)
+            throws X {
+        if (!usuariosPorEmail.containsKey(normalizarEmail(usuario.getEmail()))) {
+            try {
+                registro.registrar();
+            } finally {
+                usuarios.add(usuario);
+                usuariosPorEmail.put(normalizarEmail(usuario.getEmail()), usuario);
+                if (indiceNomes != null) {
+                    indiceNomes.adicionar(usuario, usuario.getNome());
+                }
+            }
         } else {
             throw new IllegalArgumentException("E-mail já cadastrado!");
         }
     }
 
+    public synchronized List<Usuario> adicionarUsuarios(List<Usuario> novos) {
+        List<Usuario> recusados = new ArrayList<>();
+        for (Usuario usuario : novos) {
+            if (!usuariosPorEmail.containsKey(normalizarEmail(usuario.getEmail()))) {
+                adicionarUsuario(usuario);
+            } else {
+                recusados.add(usuario);
+            }
+        }
+        return recusados;
+    }
+
     public Usuario buscarPorEmail(String email) {
-        return usuarios.stream()
-                .filter(u -> u.getEmail().equalsIgnoreCase(email))
-                .findFirst()
-                .orElse(null);
+        if (email == null) {
+            return null;
+        }
+        long inicio = METRICA_BUSCA_EMAIL.iniciar();
+        Usuario usuario = usuariosPorEmail.get(normalizarEmail(email));
+        METRICA_BUSCA_EMAIL.registrar(inicio);
+        return usuario;
     }
 
     public List<Usuario> buscarPorNome(String nome) {
-        return usuarios.stream()
-                .filter(u -> u.getNome().toLowerCase().contains(nome.toLowerCase()))
-                .collect(Collectors.toList());
+        long inicio = METRICA_BUSCA_NOME.iniciar();
+        List<Usuario> resultado = obterIndiceNomes().buscar(nome);
+        METRICA_BUSCA_NOME.registrar(inicio);
+        return resultado;
+    }
+
+    private IndiceTrigramas<Usuario> obterIndiceNomes() {
+        IndiceTrigramas<Usuario> indice = indiceNomes;
+        if (indice == null) {
+            synchronized (this) {
+                if (indiceNomes == null) {
+                    IndiceTrigramas<Usuario> novo = new IndiceTrigramas<>();
+                    usuarios.forEach(u -> novo.adicionar(u, u.getNome()));
+                    indiceNomes = novo;
+                }
+                indice = indiceNomes;
+            }
+        }
+        return indice;
     }
 
     public Usuario cadastrarUsuario(String nome, String email, String telefone) {
@@ -47,33 +123,130 @@ public class UsuarioService implements Serializable {
         return usuarios;
     }
 
-    public void gerarRelatorioParticipacao() {
-        System.out.println("\n=== Relatório de Participação em Eventos ===");
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        usuariosPorEmail = new ConcurrentHashMap<>();
         for (Usuario usuario : usuarios) {
-            System.out.println("\nUsuário: " + usuario.getNome());
-            System.out.println("E-mail: " + usuario.getEmail());
-            System.out.println("Total de eventos confirmados: " + usuario.getEventosConfirmados().size());
-            
-            if (!usuario.getEventosConfirmados().isEmpty()) {
-                System.out.println("\nEventos confirmados:");
-                usuario.getEventosConfirmados().forEach(evento -> 
-                    System.out.println("- " + evento.getNome() + " (" + evento.getCategoria() + ")")
-                );
-            }
-            System.out.println("----------------------------------------");
+            usuariosPorEmail.putIfAbsent(normalizarEmail(usuario.getEmail()), usuario);
         }
     }
 
+    public void gerarRelatorioParticipacao() {
+        try {
+            gerarRelatorioParticipacao(new OutputStreamWriter(System.out, Charset.defaultCharset()), FormatoRelatorio.TEXTO);
+        } catch (IOException e) {
+            System.out.println("Erro ao gerar relatório: " + e.getMessage());
+        }
+    }
+
+    public void gerarRelatorioParticipacao(OutputStream saida, FormatoRelatorio formato) throws IOException {
+        gerarRelatorioParticipacao(saida, formato, 1);
+    }
+
+    public void gerarRelatorioParticipacao(OutputStream saida, FormatoRelatorio formato, int paralelismo) throws IOException {
+        gerarRelatorioParticipacao(new OutputStreamWriter(saida, StandardCharsets.UTF_8), formato, paralelismo);
+    }
+
+    public void gerarRelatorioParticipacao(Writer saida, FormatoRelatorio formato) throws IOException {
+        gerarRelatorioParticipacao(saida, formato, 1);
+    }
+
+    public void gerarRelatorioParticipacao(Writer saida, FormatoRelatorio formato, int paralelismo) throws IOException {
+        gerarRelatorio(saida, formato, usuarios, paralelismo, true);
+    }
+
+    public void gerarRelatorioParticipacao(Writer saida, FormatoRelatorio formato, Usuario usuario) throws IOException {
+        gerarRelatorio(saida, formato, Collections.singletonList(usuario), 1, true);
+    }
+
     public void gerarRelatorioCategorias() {
-        System.out.println("\n=== Relatório de Preferências por Categoria ===");
-        for (Usuario usuario : usuarios) {
-            System.out.println("\nUsuário: " + usuario.getNome());
-            usuario.getEventosConfirmados().stream()
-                .collect(Collectors.groupingBy(Evento::getCategoria, Collectors.counting()))
-                .forEach((categoria, quantidade) -> 
-                    System.out.println(categoria + ": " + quantidade + " eventos")
-                );
-            System.out.println("----------------------------------------");
+        try {
+            gerarRelatorioCategorias(new OutputStreamWriter(System.out, Charset.defaultCharset()), FormatoRelatorio.TEXTO);
+        } catch (IOException e) {
+            System.out.println("Erro ao gerar relatório: " + e.getMessage());
+        }
+    }
+
+    public void gerarRelatorioCategorias(OutputStream saida, FormatoRelatorio formato) throws IOException {
+        gerarRelatorioCategorias(saida, formato, 1);
+    }
+
+    public void gerarRelatorioCategorias(OutputStream saida, FormatoRelatorio formato, int paralelismo) throws IOException {
+        gerarRelatorioCategorias(new OutputStreamWriter(saida, StandardCharsets.UTF_8), formato, paralelismo);
+    }
+
+    public void gerarRelatorioCategorias(Writer saida, FormatoRelatorio formato) throws IOException {
+        gerarRelatorioCategorias(saida, formato, 1);
+    }
+
+    public void gerarRelatorioCategorias(Writer saida, FormatoRelatorio formato, int paralelismo) throws IOException {
+        gerarRelatorio(saida, formato, usuarios, paralelismo, false);
+    }
+
+    public void gerarRelatorioCategorias(Writer saida, FormatoRelatorio formato, Usuario usuario) throws IOException {
+        gerarRelatorio(saida, formato, Collections.singletonList(usuario), 1, false);
+    }
+
+    private void gerarRelatorio(Writer saida, FormatoRelatorio formato, List<Usuario> lista, int paralelismo,
+                                boolean participacao) throws IOException {
+        Metricas.Operacao metrica = participacao ? METRICA_RELATORIO_PARTICIPACAO : METRICA_RELATORIO_CATEGORIAS;
+        long inicioMedicao = metrica.iniciar();
+        Writer buffer = comBuffer(saida);
+        RelatorioUsuarios relatorio = new RelatorioUsuarios(buffer, formato);
+        if (participacao) {
+            relatorio.cabecalhoParticipacao();
+        } else {
+            relatorio.cabecalhoCategorias();
+        }
+        int total = lista.size();
+        if (paralelismo <= 1) {
+            escreverFaixa(relatorio, lista, 0, total, participacao);
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(paralelismo);
+            try {
+                Deque<ForkJoinTask<char[]>> pendentes = new ArrayDeque<>();
+                for (int inicio = 0; inicio < total; inicio += BLOCO_RELATORIO) {
+                    int de = inicio;
+                    int ate = Math.min(total, inicio + BLOCO_RELATORIO);
+                    pendentes.add(pool.submit(() -> renderizarFaixa(formato, lista, de, ate, participacao)));
+                    if (pendentes.size() >= paralelismo * 2) {
+                        buffer.write(pendentes.poll().join());
+                    }
+                }
+                while (!pendentes.isEmpty()) {
+                    buffer.write(pendentes.poll().join());
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+        buffer.flush();
+        metrica.registrar(inicioMedicao);
+    }
+
+    private static char[] renderizarFaixa(FormatoRelatorio formato, List<Usuario> lista, int de, int ate,
+                                          boolean participacao) {
+        CharArrayWriter parcial = new CharArrayWriter();
+        try {
+            escreverFaixa(new RelatorioUsuarios(parcial, formato), lista, de, ate, participacao);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
+        return parcial.toCharArray();
+    }
+
+    private static void escreverFaixa(RelatorioUsuarios relatorio, List<Usuario> lista, int de, int ate,
+                                      boolean participacao) throws IOException {
+        for (int i = de; i < ate; i++) {
+            if (participacao) {
+                relatorio.participacao(lista.get(i));
+            } else {
+                relatorio.categorias(lista.get(i));
+            }
+        }
+    }
+
+    private static Writer comBuffer(Writer saida) {
+        return saida instanceof BufferedWriter ? saida : new BufferedWriter(saida, TAMANHO_BUFFER);
     }
-}
\ No newline at end of file
+}
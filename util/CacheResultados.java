@@ -0,0 +1,315 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+public class CacheResultados<K, V> {
+    private static final int FRACAO_JANELA = 100;
+    private static final int LARGURA_FREQUENCIAS = 1024;
+    private static final int LINHAS_FREQUENCIAS = 4;
+    private static final int MAXIMO_FREQUENCIA = 15;
+    private static final int TAMANHO_BUFFER = 16;
+    private static final int FAIXAS_BUFFER =
+            Math.min(64, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4 - 1) << 1);
+
+    private final long limitePeso;
+    private final long limiteJanela;
+    private final ToLongFunction<V> peso;
+    private final Map<K, Entrada<V>> dados = new ConcurrentHashMap<>();
+    private final Map<K, Entrada<V>> janela = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<K, Entrada<V>> principal = new LinkedHashMap<>(16, 0.75f, true);
+    private final byte[][] frequencias = new byte[LINHAS_FREQUENCIAS][LARGURA_FREQUENCIAS];
+    @SuppressWarnings("unchecked")
+    private final BufferLeitura<K>[] leituras = (BufferLeitura<K>[]) new BufferLeitura<?>[FAIXAS_BUFFER];
+    private final ReentrantLock politica = new ReentrantLock();
+    private final LongAdder acertos = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+    private final LongAdder rejeicoes = new LongAdder();
+    private long pesoJanela;
+    private long pesoPrincipal;
+    private int amostras;
+    private volatile boolean ativo = true;
+
+    public CacheResultados(long limitePeso, ToLongFunction<V> peso) {
+        this.limitePeso = limitePeso;
+        this.limiteJanela = Math.max(1, limitePeso / FRACAO_JANELA);
+        this.peso = peso;
+        for (int i = 0; i < leituras.length; i++) {
+            leituras[i] = new BufferLeitura<>();
+        }
+    }
+
+    public V obter(K chave, long versao, Supplier<V> calculo) {
+        if (!ativo) {
+            return calculo.get();
+        }
+        V valor = buscar(chave, versao);
+        if (valor != null) {
+            acertos.increment();
+            return valor;
+        }
+        falhas.increment();
+        valor = calculo.get();
+        guardar(chave, versao, valor);
+        return valor;
+    }
+
+    private V buscar(K chave, long versao) {
+        BufferLeitura<K> buffer = leituras[(int) Thread.currentThread().getId() & (FAIXAS_BUFFER - 1)];
+        if (!buffer.registrar(chave)) {
+            drenarSePossivel();
+        }
+        Entrada<V> entrada = dados.get(chave);
+        if (entrada == null || entrada.versao != versao) {
+            return null;
+        }
+        return entrada.valor;
+    }
+
+    private void drenarSePossivel() {
+        if (politica.tryLock()) {
+            try {
+                drenar();
+            } finally {
+                politica.unlock();
+            }
+        }
+    }
+
+    private void drenar() {
+        for (BufferLeitura<K> buffer : leituras) {
+            buffer.drenar(this::aplicarAcesso);
+        }
+    }
+
+    private void aplicarAcesso(K chave) {
+        registrarAcesso(chave);
+        if (janela.get(chave) == null) {
+            principal.get(chave);
+        }
+    }
+
+    private void guardar(K chave, long versao, V valor) {
+        politica.lock();
+        try {
+            drenar();
+            Entrada<V> atual = dados.get(chave);
+            if (atual != null && atual.versao > versao) {
+                return;
+            }
+            remover(chave);
+            Entrada<V> entrada = new Entrada<>(valor, versao, Math.max(1, peso.applyAsLong(valor)));
+            if (entrada.peso > limitePeso - limiteJanela) {
+                rejeicoes.increment();
+                return;
+            }
+            janela.put(chave, entrada);
+            dados.put(chave, entrada);
+            pesoJanela += entrada.peso;
+            Iterator<Map.Entry<K, Entrada<V>>> antigas = janela.entrySet().iterator();
+            while (pesoJanela > limiteJanela && antigas.hasNext()) {
+                Map.Entry<K, Entrada<V>> candidata = antigas.next();
+                antigas.remove();
+                pesoJanela -= candidata.getValue().peso;
+                admitir(candidata.getKey(), candidata.getValue());
+            }
+        } finally {
+            politica.unlock();
+        }
+    }
+
+    private void admitir(K chave, Entrada<V> candidata) {
+        long excesso = pesoPrincipal + candidata.peso - (limitePeso - limiteJanela);
+        List<K> vitimas = new ArrayList<>();
+        int frequenciaCandidata = frequencia(chave);
+        Iterator<Map.Entry<K, Entrada<V>>> antigas = principal.entrySet().iterator();
+        while (excesso > 0) {
+            Map.Entry<K, Entrada<V>> vitima = antigas.next();
+            if (vitima.getValue().versao >= candidata.versao && frequenciaCandidata <= frequencia(vitima.getKey())) {
+                dados.remove(chave, candidata);
+                rejeicoes.increment();
+                return;
+            }
+            vitimas.add(vitima.getKey());
+            excesso -= vitima.getValue().peso;
+        }
+        for (K vitima : vitimas) {
+            pesoPrincipal -= principal.remove(vitima).peso;
+            dados.remove(vitima);
+        }
+        principal.put(chave, candidata);
+        pesoPrincipal += candidata.peso;
+    }
+
+    private void remover(K chave) {
+        dados.remove(chave);
+        Entrada<V> entrada = janela.remove(chave);
+        if (entrada != null) {
+            pesoJanela -= entrada.peso;
+        }
+        entrada = principal.remove(chave);
+        if (entrada != null) {
+            pesoPrincipal -= entrada.peso;
+        }
+    }
+
+    private void registrarAcesso(K chave) {
+        int hash = espalhar(chave.hashCode());
+        for (int linha = 0; linha < LINHAS_FREQUENCIAS; linha++) {
+            int coluna = indice(hash, linha);
+            if (frequencias[linha][coluna] < MAXIMO_FREQUENCIA) {
+                frequencias[linha][coluna]++;
+            }
+        }
+        if (++amostras == LARGURA_FREQUENCIAS * 10) {
+            amostras = 0;
+            for (byte[] linha : frequencias) {
+                for (int i = 0; i < linha.length; i++) {
+                    linha[i] >>= 1;
+                }
+            }
+        }
+    }
+
+    private int frequencia(K chave) {
+        int hash = espalhar(chave.hashCode());
+        int minimo = MAXIMO_FREQUENCIA;
+        for (int linha = 0; linha < LINHAS_FREQUENCIAS; linha++) {
+            minimo = Math.min(minimo, frequencias[linha][indice(hash, linha)]);
+        }
+        return minimo;
+    }
+
+    private static int espalhar(int hash) {
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int indice(int hash, int linha) {
+        int misturado = (hash + linha) * 0x85EBCA6B;
+        return (misturado ^ (misturado >>> 15)) & (LARGURA_FREQUENCIAS - 1);
+    }
+
+    public void limpar() {
+        politica.lock();
+        try {
+            drenar();
+            dados.clear();
+            janela.clear();
+            principal.clear();
+            pesoJanela = 0;
+            pesoPrincipal = 0;
+        } finally {
+            politica.unlock();
+        }
+    }
+
+    public boolean isAtivo() {
+        return ativo;
+    }
+
+    public void setAtivo(boolean valor) {
+        ativo = valor;
+        if (!valor) {
+            limpar();
+        }
+    }
+
+    public long getAcertos() {
+        return acertos.sum();
+    }
+
+    public long getFalhas() {
+        return falhas.sum();
+    }
+
+    public long getRejeicoes() {
+        return rejeicoes.sum();
+    }
+
+    public double getTaxaAcerto() {
+        long acessos = getAcertos() + getFalhas();
+        return acessos == 0 ? 0 : (double) getAcertos() / acessos;
+    }
+
+    public int tamanho() {
+        return dados.size();
+    }
+
+    public long getPeso() {
+        politica.lock();
+        try {
+            return pesoJanela + pesoPrincipal;
+        } finally {
+            politica.unlock();
+        }
+    }
+
+    public void zerarEstatisticas() {
+        acertos.reset();
+        falhas.reset();
+        rejeicoes.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("acertos %d, falhas %d (%.1f%% de acerto), rejeitados %d, %d entradas, peso %d de %d",
+                getAcertos(), getFalhas(), getTaxaAcerto() * 100, getRejeicoes(), tamanho(), getPeso(), limitePeso);
+    }
+
+    private static class Entrada<V> {
+        private final V valor;
+        private final long versao;
+        private final long peso;
+
+        Entrada(V valor, long versao, long peso) {
+            this.valor = valor;
+            this.versao = versao;
+            this.peso = peso;
+        }
+    }
+
+    private static class BufferLeitura<K> {
+        private final AtomicReferenceArray<K> posicoes = new AtomicReferenceArray<>(TAMANHO_BUFFER);
+        private final AtomicLong escritas = new AtomicLong();
+        private volatile long leituras;
+
+        boolean registrar(K chave) {
+            long cauda = escritas.get();
+            if (cauda - leituras >= TAMANHO_BUFFER) {
+                return false;
+            }
+            if (escritas.compareAndSet(cauda, cauda + 1)) {
+                posicoes.lazySet((int) cauda & (TAMANHO_BUFFER - 1), chave);
+            }
+            return cauda + 1 - leituras < TAMANHO_BUFFER;
+        }
+
+        void drenar(Consumer<K> acesso) {
+            long cabeca = leituras;
+            long cauda = escritas.get();
+            while (cabeca < cauda) {
+                int posicao = (int) cabeca & (TAMANHO_BUFFER - 1);
+                K chave = posicoes.get(posicao);
+                if (chave == null) {
+                    break;
+                }
+                posicoes.lazySet(posicao, null);
+                acesso.accept(chave);
+                cabeca++;
+            }
+            leituras = cabeca;
+        }
+    }
+}
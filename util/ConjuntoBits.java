@@ -0,0 +1,48 @@
+package util;
+
+import java.util.Arrays;
+
+public class ConjuntoBits {
+    private volatile long[] palavras = new long[1];
+    private volatile int cardinalidade;
+
+    public synchronized void adicionar(int posicao) {
+        int indice = posicao >>> 6;
+        long[] atuais = palavras;
+        if (indice >= atuais.length) {
+            atuais = Arrays.copyOf(atuais, Math.max(indice + 1, atuais.length * 2));
+        }
+        long bit = 1L << posicao;
+        if ((atuais[indice] & bit) == 0) {
+            atuais[indice] |= bit;
+            cardinalidade++;
+        }
+        palavras = atuais;
+    }
+
+    public boolean contem(int posicao) {
+        long[] atuais = palavras;
+        int indice = posicao >>> 6;
+        return indice < atuais.length && (atuais[indice] & (1L << posicao)) != 0;
+    }
+
+    public int proximo(int desde) {
+        long[] atuais = palavras;
+        int indice = desde >>> 6;
+        if (desde < 0 || indice >= atuais.length) {
+            return -1;
+        }
+        long palavra = atuais[indice] & (-1L << desde);
+        while (palavra == 0) {
+            if (++indice == atuais.length) {
+                return -1;
+            }
+            palavra = atuais[indice];
+        }
+        return (indice << 6) + Long.numberOfTrailingZeros(palavra);
+    }
+
+    public int getCardinalidade() {
+        return cardinalidade;
+    }
+}
@@ -0,0 +1,127 @@
+package util;
+
+import model.Categoria;
+import model.ConjuntoOrdenado;
+import model.Evento;
+import model.PoolDeTextos;
+import model.Usuario;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+public class EventoMapeado extends Evento {
+    private static final long serialVersionUID = 1L;
+    private transient ByteBuffer buffer;
+    private transient Usuario[] usuariosPorId;
+    private int offset;
+    private String nome;
+    private String endereco;
+    private String descricao;
+    private ConjuntoOrdenado<Usuario> confirmados;
+    private ConjuntoOrdenado<Usuario> espera;
+
+    EventoMapeado(ByteBuffer buffer, int offset, Categoria categoria, long horarioSegundos, int horarioNanos,
+                  int capacidade, Usuario[] usuariosPorId) {
+        super(categoria, horarioSegundos, horarioNanos, capacidade);
+        this.buffer = buffer;
+        this.offset = offset;
+        this.usuariosPorId = usuariosPorId;
+    }
+
+    @Override
+    public synchronized String getNome() {
+        if (nome == null) {
+            nome = Snapshot.lerTexto(buffer, offset);
+        }
+        return nome;
+    }
+
+    @Override
+    public synchronized String getEndereco() {
+        if (endereco == null) {
+            endereco = PoolDeTextos.compartilhar(Snapshot.lerTexto(buffer, Snapshot.pularTexto(buffer, offset)));
+        }
+        return endereco;
+    }
+
+    @Override
+    public synchronized String getDescricao() {
+        if (descricao == null) {
+            descricao = Snapshot.lerTexto(buffer, inicioDescricao());
+        }
+        return descricao;
+    }
+
+    @Override
+    protected synchronized ConjuntoOrdenado<Usuario> participantes() {
+        if (confirmados == null) {
+            confirmados = new ConjuntoOrdenado<>();
+            int pos = Snapshot.pularTexto(buffer, inicioDescricao());
+            Snapshot.lerParticipantes(buffer, pos, usuariosPorId).forEach(confirmados::adicionar);
+            liberarUsuarios();
+        }
+        return confirmados;
+    }
+
+    @Override
+    protected synchronized ConjuntoOrdenado<Usuario> listaDeEspera() {
+        if (espera == null) {
+            espera = new ConjuntoOrdenado<>();
+            int pos = Snapshot.pularParticipantes(buffer, Snapshot.pularTexto(buffer, inicioDescricao()));
+            Snapshot.lerParticipantes(buffer, pos, usuariosPorId).forEach(espera::adicionar);
+            liberarUsuarios();
+        }
+        return espera;
+    }
+
+    private void liberarUsuarios() {
+        if (confirmados != null && espera != null) {
+            usuariosPorId = null;
+        }
+    }
+
+    @Override
+    public synchronized int getTotalParticipantes() {
+        if (confirmados == null) {
+            return buffer.getInt(Snapshot.pularTexto(buffer, inicioDescricao()));
+        }
+        return confirmados.tamanho();
+    }
+
+    synchronized void escreverRegistro(DataOutputStream out) throws IOException {
+        int pos = escreverTexto(out, nome, offset);
+        pos = escreverTexto(out, endereco, pos);
+        pos = escreverTexto(out, descricao, pos);
+        int fim = Snapshot.pularParticipantes(buffer, pos);
+        if (confirmados == null) {
+            Snapshot.copiar(out, buffer, pos, fim);
+        } else {
+            Snapshot.escreverUsuarios(out, confirmados.lista());
+        }
+        if (espera == null) {
+            Snapshot.copiar(out, buffer, fim, Snapshot.pularParticipantes(buffer, fim));
+        } else {
+            Snapshot.escreverUsuarios(out, espera.lista());
+        }
+    }
+
+    private int escreverTexto(DataOutputStream out, String carregado, int pos) throws IOException {
+        int fim = Snapshot.pularTexto(buffer, pos);
+        if (carregado == null) {
+            Snapshot.copiar(out, buffer, pos, fim);
+        } else {
+            Snapshot.escreverTexto(out, carregado);
+        }
+        return fim;
+    }
+
+    synchronized void reanexar(ByteBuffer buffer, int offset) {
+        this.buffer = buffer;
+        this.offset = offset;
+    }
+
+    private int inicioDescricao() {
+        return Snapshot.pularTexto(buffer, Snapshot.pularTexto(buffer, offset));
+    }
+}
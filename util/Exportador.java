@@ -0,0 +1,134 @@
+package util;
+
+import model.Evento;
+import model.Usuario;
+import service.EventoService;
+import service.FormatoRelatorio;
+import service.UsuarioService;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.format.DateTimeFormatter;
+
+public class Exportador {
+    private static final int TAMANHO_BUFFER = 1 << 16;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final EventoService eventoService;
+    private final UsuarioService usuarioService;
+
+    public Exportador(EventoService eventoService, UsuarioService usuarioService) {
+        this.eventoService = eventoService;
+        this.usuarioService = usuarioService;
+    }
+
+    public long exportar(Writer destino, TipoRegistro tipo, FormatoRelatorio formato) throws IOException {
+        if (formato == FormatoRelatorio.TEXTO) {
+            throw new IllegalArgumentException("Exportação aceita apenas CSV ou JSONL.");
+        }
+        boolean csv = formato == FormatoRelatorio.CSV;
+        Writer saida = new BufferedWriter(destino, TAMANHO_BUFFER);
+        long linhas = 0;
+        switch (tipo) {
+            case USUARIOS:
+                if (csv) {
+                    saida.write("id,nome,email,telefone\n");
+                }
+                for (Usuario usuario : usuarioService.getUsuarios()) {
+                    Registro registro = new Registro(saida, csv);
+                    registro.numero("id", usuario.getId());
+                    registro.texto("nome", usuario.getNome());
+                    registro.texto("email", usuario.getEmail());
+                    registro.texto("telefone", usuario.getTelefone());
+                    registro.fechar();
+                    linhas++;
+                }
+                break;
+            case EVENTOS:
+                if (csv) {
+                    saida.write("id,nome,endereco,categoria,data,hora,descricao,capacidade\n");
+                }
+                for (Evento evento : eventoService.getEventos()) {
+                    Registro registro = new Registro(saida, csv);
+                    registro.numero("id", evento.getId());
+                    registro.texto("nome", evento.getNome());
+                    registro.texto("endereco", evento.getEndereco());
+                    registro.texto("categoria", evento.getCategoria().name());
+                    registro.texto("data", evento.getHorario().format(DATE_FORMATTER));
+                    registro.texto("hora", evento.getHorario().format(TIME_FORMATTER));
+                    registro.texto("descricao", evento.getDescricao());
+                    registro.numero("capacidade", evento.getCapacidade());
+                    registro.fechar();
+                    linhas++;
+                }
+                break;
+            case PARTICIPACOES:
+                if (csv) {
+                    saida.write("email,evento_id\n");
+                }
+                for (Evento evento : eventoService.getEventos()) {
+                    for (Usuario usuario : evento.getParticipantes()) {
+                        escreverParticipacao(saida, csv, usuario, evento);
+                        linhas++;
+                    }
+                    for (Usuario usuario : evento.getListaDeEspera()) {
+                        escreverParticipacao(saida, csv, usuario, evento);
+                        linhas++;
+                    }
+                }
+                break;
+        }
+        saida.flush();
+        return linhas;
+    }
+
+    private static void escreverParticipacao(Writer saida, boolean csv, Usuario usuario, Evento evento)
+            throws IOException {
+        Registro registro = new Registro(saida, csv);
+        registro.texto("email", usuario.getEmail());
+        registro.numero("evento_id", evento.getId());
+        registro.fechar();
+    }
+
+    private static class Registro {
+        private final Writer saida;
+        private final boolean csv;
+        private boolean primeiro = true;
+
+        Registro(Writer saida, boolean csv) {
+            this.saida = saida;
+            this.csv = csv;
+        }
+
+        void texto(String nome, String valor) throws IOException {
+            separar(nome);
+            if (csv) {
+                Formatos.escreverCsv(saida, valor);
+            } else {
+                Formatos.escreverJson(saida, valor);
+            }
+        }
+
+        void numero(String nome, int valor) throws IOException {
+            separar(nome);
+            saida.write(Integer.toString(valor));
+        }
+
+        void fechar() throws IOException {
+            saida.write(csv ? "\n" : "}\n");
+        }
+
+        private void separar(String nome) throws IOException {
+            if (!csv) {
+                saida.write(primeiro ? "{\"" : ",\"");
+                saida.write(nome);
+                saida.write("\":");
+            } else if (!primeiro) {
+                saida.write(',');
+            }
+            primeiro = false;
+        }
+    }
+}
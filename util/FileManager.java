@@ -1,53 +1,350 @@
 package util;
 
+import model.Evento;
 import model.Usuario;
 import service.EventoService;
+import service.FormatoRelatorio;
 import service.UsuarioService;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 public class FileManager {
-    private String eventosFileName;
-    private String usuariosFileName;
+    private static final long LIMITE_COMPACTACAO = 1000;
+    private static final long INTERVALO_COMPACTACAO_MS = 300_000;
+    private static final long LIMITE_GRAVACAO = 256;
+    private static final long INTERVALO_GRAVACAO_MS = 1000;
+    private static final Metricas.Operacao METRICA_SALVAR = Metricas.operacao("persistencia.salvar");
+    private static final Metricas.Operacao METRICA_CARREGAR = Metricas.operacao("persistencia.carregar");
+    private static final Metricas.Operacao METRICA_IMPORTAR = Metricas.operacao("persistencia.importar");
+    private static final Metricas.Operacao METRICA_EXPORTAR = Metricas.operacao("persistencia.exportar");
 
-    public FileManager(String eventosFileName, String usuariosFileName) {
-        this.eventosFileName = eventosFileName;
-        this.usuariosFileName = usuariosFileName;
+    private static final String EVENTOS_LEGADO = "events.data";
+    private static final String USUARIOS_LEGADO = "users.data";
+
+    private String dadosFileName;
+    private boolean mapeado;
+    private Journal journal;
+    private volatile GravadorAssincrono gravador;
+    private boolean fechado;
+    private final Object estadoGravador = new Object();
+    private EventoService eventoService;
+    private UsuarioService usuarioService;
+    private final ReentrantReadWriteLock bloqueio = new ReentrantReadWriteLock();
+
+    public FileManager(String dadosFileName) {
+        this.dadosFileName = dadosFileName;
     }
 
-    public void salvarEventos(EventoService eventoService) {
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(eventosFileName))) {
-            oos.writeObject(eventoService);
+    public FileManager(String dadosFileName, String journalFileName) {
+        this(dadosFileName, journalFileName, false);
+    }
+
+    public FileManager(String dadosFileName, String journalFileName, boolean mapeado) {
+        this(dadosFileName);
+        this.mapeado = mapeado;
+        try {
+            this.journal = new Journal(journalFileName);
         } catch (IOException e) {
-            System.out.println("Erro ao salvar eventos: " + e.getMessage());
+            System.out.println("Erro ao abrir journal, usando gravação completa: " + e.getMessage());
         }
     }
 
-    public EventoService carregarEventos() {
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(eventosFileName))) {
-            return (EventoService) ois.readObject();
-        } catch (IOException | ClassNotFoundException e) {
-            System.out.println("Arquivo de eventos não encontrado, criando novo.");
-            return new EventoService();
+    private void alterado() {
+        GravadorAssincrono atual = gravador;
+        if (atual == null) {
+            synchronized (estadoGravador) {
+                if (!fechado && gravador == null) {
+                    gravador = journal == null
+                            ? new GravadorAssincrono("gravacao-dados", this::compactarEmSegundoPlano,
+                                    INTERVALO_GRAVACAO_MS, LIMITE_GRAVACAO)
+                            : new GravadorAssincrono("journal-compactacao", this::compactarEmSegundoPlano,
+                                    INTERVALO_COMPACTACAO_MS, LIMITE_COMPACTACAO);
+                }
+                atual = gravador;
+            }
         }
+        if (atual == null) {
+            salvar();
+            return;
+        }
+        atual.marcarAlterado();
     }
 
-    public void salvarUsuarios(UsuarioService usuarioService) {
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(usuariosFileName))) {
-            oos.writeObject(usuarioService);
+    public synchronized boolean salvar() {
+        try {
+            gravarSnapshot();
+            return true;
         } catch (IOException e) {
-            System.out.println("Erro ao salvar usuários: " + e.getMessage());
+            System.out.println("Erro ao salvar dados: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private synchronized void gravarSnapshot() throws IOException {
+        if (eventoService == null || usuarioService == null) {
+            return;
         }
+        long inicio = METRICA_SALVAR.iniciar();
+        Snapshot.escrever(dadosFileName, eventoService, usuarioService);
+        METRICA_SALVAR.registrar(inicio, new File(dadosFileName).length());
+    }
+
+    public EventoService carregarEventos() {
+        carregar();
+        return eventoService;
     }
 
     public UsuarioService carregarUsuarios() {
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(usuariosFileName))) {
-            return (UsuarioService) ois.readObject();
-        } catch (IOException | ClassNotFoundException e) {
-            System.out.println("Arquivo de usuários não encontrado, criando novo.");
-            return new UsuarioService();
+        carregar();
+        return usuarioService;
+    }
+
+    private void carregar() {
+        bloqueio.writeLock().lock();
+        try {
+            if (eventoService == null) {
+                long inicio = METRICA_CARREGAR.iniciar();
+                carregarSnapshotEJournal();
+                METRICA_CARREGAR.registrar(inicio);
+            }
+        } finally {
+            bloqueio.writeLock().unlock();
+        }
+    }
+
+    private void carregarSnapshotEJournal() {
+        eventoService = new EventoService();
+        usuarioService = new UsuarioService();
+        if (new File(dadosFileName).exists()) {
+            try {
+                Snapshot.ler(dadosFileName, eventoService, usuarioService, mapeado);
+            } catch (IOException e) {
+                System.out.println("Erro ao carregar dados, criando novos: " + e.getMessage());
+                eventoService = new EventoService();
+                usuarioService = new UsuarioService();
+            }
+        } else if (carregarLegado()) {
+            alterado();
+        } else {
+            System.out.println("Arquivo de dados não encontrado, criando novo.");
+        }
+        if (journal != null) {
+            try {
+                journal.reaplicar(eventoService, usuarioService);
+                if (journal.getRegistros() > 0) {
+                    alterado();
+                }
+            } catch (IOException e) {
+                System.out.println("Erro ao reaplicar journal: " + e.getMessage());
+            }
+        }
+    }
+
+    private boolean carregarLegado() {
+        File diretorio = new File(dadosFileName).getAbsoluteFile().getParentFile();
+        File eventosLegado = new File(diretorio, EVENTOS_LEGADO);
+        File usuariosLegado = new File(diretorio, USUARIOS_LEGADO);
+        if (!eventosLegado.exists() && !usuariosLegado.exists()) {
+            return false;
+        }
+        try {
+            if (usuariosLegado.exists()) {
+                for (Usuario antigo : ((UsuarioService) lerObjeto(usuariosLegado)).getUsuarios()) {
+                    usuarioService.cadastrarUsuario(antigo.getNome(), antigo.getEmail(), antigo.getTelefone());
+                }
+            }
+            if (eventosLegado.exists()) {
+                for (Evento antigo : ((EventoService) lerObjeto(eventosLegado)).getEventos()) {
+                    Evento evento = new Evento(antigo.getNome(), antigo.getEndereco(), antigo.getCategoria(),
+                            antigo.getHorario(), antigo.getDescricao());
+                    eventoService.adicionarEvento(evento);
+                    for (Usuario participante : antigo.getParticipantes()) {
+                        Usuario usuario = usuarioService.buscarPorEmail(participante.getEmail());
+                        if (usuario != null) {
+                            eventoService.participar(usuario, evento);
+                        }
+                    }
+                }
+            }
+            System.out.println("Dados antigos convertidos para o novo formato.");
+            return true;
+        } catch (IOException | ClassNotFoundException | RuntimeException e) {
+            System.out.println("Erro ao converter dados antigos: " + e.getMessage());
+            eventoService = new EventoService();
+            usuarioService = new UsuarioService();
+            return false;
+        }
+    }
+
+    private Object lerObjeto(File arquivo) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(arquivo))) {
+            return ois.readObject();
+        }
+    }
+
+    public void adicionarEvento(Evento evento) {
+        bloqueio.readLock().lock();
+        try {
+            eventoService.adicionarEvento(evento, () -> {
+                if (journal != null) {
+                    journal.registrarEvento(evento);
+                }
+            });
+            alterado();
+        } catch (IOException e) {
+            System.out.println("Erro ao registrar evento no journal: " + e.getMessage());
+            salvar();
+        } finally {
+            bloqueio.readLock().unlock();
+        }
+    }
+
+    public void adicionarUsuario(Usuario usuario) {
+        bloqueio.readLock().lock();
+        try {
+            usuarioService.adicionarUsuario(usuario, () -> {
+                if (journal != null) {
+                    journal.registrarUsuario(usuario);
+                }
+            });
+            alterado();
+        } catch (IOException e) {
+            System.out.println("Erro ao registrar usuário no journal: " + e.getMessage());
+            salvar();
+        } finally {
+            bloqueio.readLock().unlock();
+        }
+    }
+
+    public void confirmarParticipacao(Usuario usuario, Evento evento) {
+        bloqueio.readLock().lock();
+        try {
+            boolean registrado = eventoService.participar(usuario, evento, () -> {
+                if (journal != null) {
+                    journal.registrarParticipacao(evento, usuario);
+                }
+            }) || evento.estaNaListaDeEspera(usuario);
+            if (registrado) {
+                alterado();
+            }
+        } catch (IOException e) {
+            System.out.println("Erro ao registrar participação no journal: " + e.getMessage());
+            salvar();
+        } finally {
+            bloqueio.readLock().unlock();
+        }
+    }
+
+    public void cancelarParticipacao(Usuario usuario, Evento evento) {
+        bloqueio.readLock().lock();
+        try {
+            boolean cancelado = eventoService.cancelarParticipacao(usuario, evento, () -> {
+                if (journal != null) {
+                    journal.registrarCancelamento(evento, usuario);
+                }
+            });
+            if (cancelado) {
+                alterado();
+            }
+        } catch (IOException e) {
+            System.out.println("Erro ao registrar cancelamento no journal: " + e.getMessage());
+            salvar();
+        } finally {
+            bloqueio.readLock().unlock();
+        }
+    }
+
+    public ResultadoImportacao importar(String arquivo, TipoRegistro tipo, int paralelismo) throws IOException {
+        carregar();
+        bloqueio.writeLock().lock();
+        try (Reader entrada = new InputStreamReader(new FileInputStream(arquivo), StandardCharsets.UTF_8);
+             Writer rejeitados = new OutputStreamWriter(new FileOutputStream(arquivo + ".rejeitados.csv"),
+                     StandardCharsets.UTF_8)) {
+            long inicio = METRICA_IMPORTAR.iniciar();
+            ResultadoImportacao resultado = new Importador(eventoService, usuarioService, paralelismo)
+                    .importar(entrada, tipo, formatoDoArquivo(arquivo), new BufferedWriter(rejeitados));
+            gravarECompactar();
+            METRICA_IMPORTAR.registrar(inicio);
+            return resultado;
+        } finally {
+            bloqueio.writeLock().unlock();
+        }
+    }
+
+    public long exportar(String arquivo, TipoRegistro tipo) throws IOException {
+        carregar();
+        bloqueio.readLock().lock();
+        long inicio = METRICA_EXPORTAR.iniciar();
+        try (Writer saida = new OutputStreamWriter(new FileOutputStream(arquivo), StandardCharsets.UTF_8)) {
+            return new Exportador(eventoService, usuarioService).exportar(saida, tipo, formatoDoArquivo(arquivo));
+        } finally {
+            METRICA_EXPORTAR.registrar(inicio, new File(arquivo).length());
+            bloqueio.readLock().unlock();
+        }
+    }
+
+    private static FormatoRelatorio formatoDoArquivo(String arquivo) {
+        String nome = arquivo.toLowerCase(Locale.ROOT);
+        return nome.endsWith(".jsonl") || nome.endsWith(".json") ? FormatoRelatorio.JSONL : FormatoRelatorio.CSV;
+    }
+
+    public boolean compactar() {
+        try {
+            gravarECompactar();
+            return true;
+        } catch (IOException e) {
+            System.out.println("Erro ao compactar journal: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void compactarEmSegundoPlano() {
+        if (!compactar()) {
+            gravador.marcarAlterado();
+        }
+    }
+
+    private void gravarECompactar() throws IOException {
+        bloqueio.writeLock().lock();
+        try {
+            gravarSnapshot();
+            if (journal != null) {
+                journal.truncar();
+            }
+        } finally {
+            bloqueio.writeLock().unlock();
+        }
+    }
+
+    public void fechar() {
+        GravadorAssincrono atual;
+        synchronized (estadoGravador) {
+            if (fechado) {
+                return;
+            }
+            fechado = true;
+            atual = gravador;
+        }
+        if (atual != null) {
+            atual.close();
+        }
+        bloqueio.writeLock().lock();
+        try {
+            if (journal != null) {
+                if (journal.getRegistros() > 0) {
+                    compactar();
+                }
+                journal.close();
+            }
+        } catch (IOException e) {
+            System.out.println("Erro ao fechar journal: " + e.getMessage());
+        } finally {
+            bloqueio.writeLock().unlock();
         }
     }
-}
\ No newline at end of file
+}
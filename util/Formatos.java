@@ -0,0 +1,237 @@
+package util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class Formatos {
+    private Formatos() {
+    }
+
+    public static void escreverCsv(Writer saida, String texto) throws IOException {
+        boolean citar = false;
+        for (int i = 0; i < texto.length() && !citar; i++) {
+            char c = texto.charAt(i);
+            citar = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!citar) {
+            saida.write(texto);
+            return;
+        }
+        saida.write('"');
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (c == '"') {
+                saida.write('"');
+            }
+            saida.write(c);
+        }
+        saida.write('"');
+    }
+
+    public static void escreverJson(Writer saida, String texto) throws IOException {
+        saida.write('"');
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            switch (c) {
+                case '"':
+                    saida.write("\\\"");
+                    break;
+                case '\\':
+                    saida.write("\\\\");
+                    break;
+                case '\n':
+                    saida.write("\\n");
+                    break;
+                case '\r':
+                    saida.write("\\r");
+                    break;
+                case '\t':
+                    saida.write("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        saida.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        saida.write(c);
+                    }
+            }
+        }
+        saida.write('"');
+    }
+
+    public static String lerRegistroCsv(BufferedReader leitor, int[] linhas) throws IOException {
+        String linha = leitor.readLine();
+        if (linha == null) {
+            return null;
+        }
+        linhas[0]++;
+        boolean citado = citadoAoFinal(linha, false);
+        if (!citado) {
+            return linha;
+        }
+        StringBuilder registro = new StringBuilder(linha);
+        while (citado) {
+            String continuacao = leitor.readLine();
+            if (continuacao == null) {
+                break;
+            }
+            linhas[0]++;
+            registro.append('\n').append(continuacao);
+            citado = citadoAoFinal(continuacao, true);
+        }
+        return registro.toString();
+    }
+
+    private static boolean citadoAoFinal(String trecho, boolean citado) {
+        for (int i = 0; i < trecho.length(); i++) {
+            if (trecho.charAt(i) == '"') {
+                citado = !citado;
+            }
+        }
+        return citado;
+    }
+
+    public static List<String> lerCsv(String linha) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean citado = false;
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (citado) {
+                if (c != '"') {
+                    campo.append(c);
+                } else if (i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                    campo.append('"');
+                    i++;
+                } else {
+                    citado = false;
+                }
+            } else if (c == '"') {
+                citado = true;
+            } else if (c == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else {
+                campo.append(c);
+            }
+        }
+        if (citado) {
+            throw new IllegalArgumentException("Aspas não fechadas");
+        }
+        campos.add(campo.toString());
+        return campos;
+    }
+
+    public static Map<String, String> lerJson(String linha) {
+        Map<String, String> campos = new HashMap<>();
+        int[] pos = {pularEspacos(linha, 0)};
+        esperar(linha, pos, '{');
+        int fechamento = pularEspacos(linha, pos[0]);
+        if (fechamento >= linha.length()) {
+            throw new IllegalArgumentException("JSON incompleto");
+        }
+        if (linha.charAt(fechamento) == '}') {
+            return campos;
+        }
+        while (true) {
+            pos[0] = pularEspacos(linha, pos[0]);
+            String chave = lerStringJson(linha, pos);
+            esperar(linha, pos, ':');
+            pos[0] = pularEspacos(linha, pos[0]);
+            String valor;
+            if (pos[0] < linha.length() && linha.charAt(pos[0]) == '"') {
+                valor = lerStringJson(linha, pos);
+            } else {
+                int inicio = pos[0];
+                while (pos[0] < linha.length() && ",} \t".indexOf(linha.charAt(pos[0])) < 0) {
+                    pos[0]++;
+                }
+                valor = linha.substring(inicio, pos[0]);
+                if (valor.isEmpty()) {
+                    throw new IllegalArgumentException("Valor ausente para " + chave);
+                }
+                if (valor.equals("null")) {
+                    valor = null;
+                }
+            }
+            campos.put(chave, valor);
+            pos[0] = pularEspacos(linha, pos[0]);
+            if (pos[0] >= linha.length()) {
+                throw new IllegalArgumentException("JSON incompleto");
+            }
+            char c = linha.charAt(pos[0]++);
+            if (c == '}') {
+                return campos;
+            }
+            if (c != ',') {
+                throw new IllegalArgumentException("JSON inválido na posição " + (pos[0] - 1));
+            }
+        }
+    }
+
+    private static String lerStringJson(String linha, int[] pos) {
+        esperar(linha, pos, '"');
+        StringBuilder texto = new StringBuilder();
+        while (pos[0] < linha.length()) {
+            char c = linha.charAt(pos[0]++);
+            if (c == '"') {
+                return texto.toString();
+            }
+            if (c != '\\') {
+                texto.append(c);
+                continue;
+            }
+            if (pos[0] >= linha.length()) {
+                break;
+            }
+            char escape = linha.charAt(pos[0]++);
+            switch (escape) {
+                case 'n':
+                    texto.append('\n');
+                    break;
+                case 'r':
+                    texto.append('\r');
+                    break;
+                case 't':
+                    texto.append('\t');
+                    break;
+                case 'b':
+                    texto.append('\b');
+                    break;
+                case 'f':
+                    texto.append('\f');
+                    break;
+                case 'u':
+                    if (pos[0] + 4 > linha.length()) {
+                        throw new IllegalArgumentException("Escape unicode incompleto");
+                    }
+                    texto.append((char) Integer.parseInt(linha.substring(pos[0], pos[0] + 4), 16));
+                    pos[0] += 4;
+                    break;
+                default:
+                    texto.append(escape);
+            }
+        }
+        throw new IllegalArgumentException("Texto JSON não fechado");
+    }
+
+    private static void esperar(String linha, int[] pos, char esperado) {
+        pos[0] = pularEspacos(linha, pos[0]);
+        if (pos[0] >= linha.length() || linha.charAt(pos[0]) != esperado) {
+            throw new IllegalArgumentException("Esperado '" + esperado + "' na posição " + pos[0]);
+        }
+        pos[0]++;
+    }
+
+    private static int pularEspacos(String linha, int pos) {
+        while (pos < linha.length() && Character.isWhitespace(linha.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+}
@@ -0,0 +1,109 @@
+package util;
+
+import java.io.Closeable;
+import java.util.concurrent.TimeUnit;
+
+public class GravadorAssincrono implements Closeable {
+    private final Runnable gravacao;
+    private final long intervaloNanos;
+    private final long limitePendentes;
+    private final Object escrita = new Object();
+    private final Thread thread;
+    private long pendentes;
+    private long primeiraAlteracao;
+    private boolean fechado;
+
+    public GravadorAssincrono(String nome, Runnable gravacao, long intervaloMs, long limitePendentes) {
+        this.gravacao = gravacao;
+        this.intervaloNanos = TimeUnit.MILLISECONDS.toNanos(intervaloMs);
+        this.limitePendentes = Math.max(1, limitePendentes);
+        this.thread = new Thread(this::executar, nome);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    public synchronized void marcarAlterado() {
+        if (pendentes++ == 0) {
+            primeiraAlteracao = System.nanoTime();
+            notifyAll();
+        } else if (pendentes == limitePendentes) {
+            notifyAll();
+        }
+    }
+
+    public synchronized long getPendentes() {
+        return pendentes;
+    }
+
+    public void descarregar() {
+        synchronized (escrita) {
+            if (reivindicar()) {
+                gravar();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            fechado = true;
+            notifyAll();
+        }
+        if (Thread.currentThread() != thread) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        descarregar();
+    }
+
+    private void executar() {
+        while (aguardarGravacao()) {
+            synchronized (escrita) {
+                if (reivindicar()) {
+                    gravar();
+                }
+            }
+        }
+    }
+
+    private synchronized boolean aguardarGravacao() {
+        try {
+            while (!fechado) {
+                if (pendentes >= limitePendentes) {
+                    return true;
+                }
+                if (pendentes == 0) {
+                    wait();
+                    continue;
+                }
+                long restante = intervaloNanos - (System.nanoTime() - primeiraAlteracao);
+                if (restante <= 0) {
+                    return true;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, restante);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private synchronized boolean reivindicar() {
+        if (pendentes == 0) {
+            return false;
+        }
+        pendentes = 0;
+        return true;
+    }
+
+    private void gravar() {
+        try {
+            gravacao.run();
+        } catch (RuntimeException e) {
+            System.out.println("Erro na gravação em segundo plano: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class HistogramaLatencia {
+    private static final int BITS_SUBFAIXA = 5;
+    private static final int SUBFAIXAS = 1 << BITS_SUBFAIXA;
+    private static final int BALDES = (64 - BITS_SUBFAIXA + 1) * SUBFAIXAS;
+
+    private final AtomicLongArray baldes = new AtomicLongArray(BALDES);
+    private final LongAdder soma = new LongAdder();
+    private final AtomicLong maximo = new AtomicLong();
+
+    public void registrar(long valor) {
+        if (valor < 0) {
+            valor = 0;
+        }
+        baldes.incrementAndGet(indice(valor));
+        soma.add(valor);
+        long atual = maximo.get();
+        while (valor > atual && !maximo.compareAndSet(atual, valor)) {
+            atual = maximo.get();
+        }
+    }
+
+    public long getContagem() {
+        long total = 0;
+        for (int i = 0; i < BALDES; i++) {
+            total += baldes.get(i);
+        }
+        return total;
+    }
+
+    public long getSoma() {
+        return soma.sum();
+    }
+
+    public long getMaximo() {
+        return maximo.get();
+    }
+
+    public long percentil(double fracao) {
+        long[] copia = new long[BALDES];
+        long total = 0;
+        for (int i = 0; i < BALDES; i++) {
+            copia[i] = baldes.get(i);
+            total += copia[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long posicao = Math.max(1, (long) Math.ceil(fracao * total));
+        long acumulado = 0;
+        for (int i = 0; i < BALDES; i++) {
+            acumulado += copia[i];
+            if (acumulado >= posicao) {
+                return Math.min(limiteSuperior(i), maximo.get());
+            }
+        }
+        return maximo.get();
+    }
+
+    public void limpar() {
+        for (int i = 0; i < BALDES; i++) {
+            baldes.set(i, 0);
+        }
+        soma.reset();
+        maximo.set(0);
+    }
+
+    static int indice(long valor) {
+        if (valor < SUBFAIXAS) {
+            return (int) valor;
+        }
+        int deslocamento = 63 - Long.numberOfLeadingZeros(valor) - BITS_SUBFAIXA;
+        int subfaixa = (int) (valor >>> deslocamento) - SUBFAIXAS;
+        return (deslocamento + 1) * SUBFAIXAS + subfaixa;
+    }
+
+    static long limiteSuperior(int indice) {
+        if (indice < SUBFAIXAS) {
+            return indice;
+        }
+        int deslocamento = indice / SUBFAIXAS - 1;
+        long limite = ((long) (SUBFAIXAS + indice % SUBFAIXAS + 1) << deslocamento) - 1;
+        return limite < 0 ? Long.MAX_VALUE : limite;
+    }
+}
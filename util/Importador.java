@@ -0,0 +1,326 @@
+package util;
+
+import model.Evento;
+import model.Usuario;
+import service.EventoService;
+import service.FormatoRelatorio;
+import service.UsuarioService;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+public class Importador {
+    private static final int TAMANHO_LOTE = 8192;
+    private static final int TAMANHO_BUFFER = 1 << 16;
+
+    private final EventoService eventoService;
+    private final UsuarioService usuarioService;
+    private final int paralelismo;
+
+    public Importador(EventoService eventoService, UsuarioService usuarioService, int paralelismo) {
+        this.eventoService = eventoService;
+        this.usuarioService = usuarioService;
+        this.paralelismo = Math.max(1, paralelismo);
+    }
+
+    public ResultadoImportacao importar(Reader entrada, TipoRegistro tipo, FormatoRelatorio formato,
+                                        Writer rejeitados) throws IOException {
+        if (formato == FormatoRelatorio.TEXTO) {
+            throw new IllegalArgumentException("Importação aceita apenas CSV ou JSONL.");
+        }
+        BufferedReader leitor = new BufferedReader(entrada, TAMANHO_BUFFER);
+        ResultadoImportacao resultado = new ResultadoImportacao();
+        rejeitados.write("linha,motivo,conteudo\n");
+
+        int[] linhasLidas = {0};
+        List<String> colunas = null;
+        if (formato == FormatoRelatorio.CSV) {
+            String cabecalho = Formatos.lerRegistroCsv(leitor, linhasLidas);
+            if (cabecalho == null) {
+                return resultado;
+            }
+            colunas = new ArrayList<>();
+            for (String coluna : Formatos.lerCsv(cabecalho)) {
+                colunas.add(coluna.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(paralelismo);
+        try {
+            Deque<ForkJoinTask<Lote>> pendentes = new ArrayDeque<>();
+            Lote lote = new Lote();
+            while (true) {
+                int numeroLinha = linhasLidas[0] + 1;
+                String linha = colunas == null
+                        ? lerLinha(leitor, linhasLidas) : Formatos.lerRegistroCsv(leitor, linhasLidas);
+                if (linha == null) {
+                    break;
+                }
+                if (linha.isBlank()) {
+                    continue;
+                }
+                lote.adicionar(numeroLinha, linha);
+                if (lote.tamanho == TAMANHO_LOTE) {
+                    pendentes.add(submeter(pool, lote, tipo, colunas));
+                    lote = new Lote();
+                    if (pendentes.size() >= paralelismo * 2) {
+                        aplicar(pendentes.poll().join(), tipo, resultado, rejeitados);
+                    }
+                }
+            }
+            if (lote.tamanho > 0) {
+                pendentes.add(submeter(pool, lote, tipo, colunas));
+            }
+            while (!pendentes.isEmpty()) {
+                aplicar(pendentes.poll().join(), tipo, resultado, rejeitados);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        rejeitados.flush();
+        return resultado;
+    }
+
+    private static String lerLinha(BufferedReader leitor, int[] linhasLidas) throws IOException {
+        String linha = leitor.readLine();
+        if (linha != null) {
+            linhasLidas[0]++;
+        }
+        return linha;
+    }
+
+    private static ForkJoinTask<Lote> submeter(ForkJoinPool pool, Lote lote, TipoRegistro tipo, List<String> colunas) {
+        return pool.submit(() -> {
+            for (int i = 0; i < lote.tamanho; i++) {
+                try {
+                    Map<String, String> campos = colunas == null
+                            ? Formatos.lerJson(lote.linhas[i])
+                            : combinar(colunas, Formatos.lerCsv(lote.linhas[i]));
+                    lote.registros[i] = converter(campos, tipo);
+                } catch (RuntimeException e) {
+                    lote.motivos[i] = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+                }
+            }
+            return lote;
+        });
+    }
+
+    private static Map<String, String> combinar(List<String> colunas, List<String> valores) {
+        if (valores.size() != colunas.size()) {
+            throw new IllegalArgumentException("Esperadas " + colunas.size() + " colunas, encontradas " + valores.size());
+        }
+        Map<String, String> campos = new HashMap<>();
+        for (int i = 0; i < colunas.size(); i++) {
+            campos.put(colunas.get(i), valores.get(i));
+        }
+        return campos;
+    }
+
+    private static Object converter(Map<String, String> campos, TipoRegistro tipo) {
+        switch (tipo) {
+            case USUARIOS:
+                return converterUsuario(campos);
+            case EVENTOS:
+                return converterEvento(campos);
+            default:
+                return converterParticipacao(campos);
+        }
+    }
+
+    private static Usuario converterUsuario(Map<String, String> campos) {
+        String nome = campo(campos, "nome");
+        if (nome.isEmpty()) {
+            throw new IllegalArgumentException("Nome não pode estar vazio");
+        }
+        String email = campo(campos, "email");
+        if (!Validador.validarEmail(email)) {
+            throw new IllegalArgumentException("Email inválido");
+        }
+        String telefone = campo(campos, "telefone");
+        if (!Validador.validarTelefone(telefone)) {
+            throw new IllegalArgumentException("Telefone inválido");
+        }
+        return new Usuario(nome, email, telefone);
+    }
+
+    private static Evento converterEvento(Map<String, String> campos) {
+        String nome = campo(campos, "nome");
+        if (nome.isEmpty()) {
+            throw new IllegalArgumentException("Nome do evento não pode estar vazio");
+        }
+        String endereco = campo(campos, "endereco");
+        if (endereco.isEmpty()) {
+            throw new IllegalArgumentException("Endereço não pode estar vazio");
+        }
+        String descricao = campo(campos, "descricao");
+        if (descricao.isEmpty()) {
+            throw new IllegalArgumentException("Descrição não pode estar vazia");
+        }
+        int data = Validador.lerData(campo(campos, "data"));
+        if (data < 0) {
+            throw new IllegalArgumentException("Data inválida");
+        }
+        int hora = Validador.lerHora(campo(campos, "hora"));
+        if (hora < 0) {
+            throw new IllegalArgumentException("Horário inválido");
+        }
+        String capacidadeTexto = campos.get("capacidade");
+        int capacidade = capacidadeTexto == null || capacidadeTexto.isBlank()
+                ? 0 : Validador.lerCapacidade(capacidadeTexto.trim());
+        if (capacidade < 0) {
+            throw new IllegalArgumentException("Capacidade inválida");
+        }
+        Evento evento = new Evento(nome, endereco, Validador.converterCategoria(campo(campos, "categoria")),
+                Validador.converterDataHora(data, hora), descricao, capacidade);
+        String id = campos.get("id");
+        if (id != null && !id.isBlank()) {
+            evento.setId(converterId(id));
+        }
+        return evento;
+    }
+
+    private static Participacao converterParticipacao(Map<String, String> campos) {
+        String email = campo(campos, "email");
+        if (!Validador.validarEmail(email)) {
+            throw new IllegalArgumentException("Email inválido");
+        }
+        return new Participacao(email, converterId(campo(campos, "evento_id")));
+    }
+
+    private static int converterId(String id) {
+        try {
+            int valor = Integer.parseInt(id.trim());
+            if (valor <= 0) {
+                throw new NumberFormatException();
+            }
+            return valor;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Id inválido: " + id);
+        }
+    }
+
+    private static String campo(Map<String, String> campos, String nome) {
+        String valor = campos.get(nome);
+        if (valor == null) {
+            throw new IllegalArgumentException("Campo ausente: " + nome);
+        }
+        return valor.trim();
+    }
+
+    private void aplicar(Lote lote, TipoRegistro tipo, ResultadoImportacao resultado,
+                         Writer rejeitados) throws IOException {
+        List<Object> validos = new ArrayList<>(lote.tamanho);
+        for (int i = 0; i < lote.tamanho; i++) {
+            resultado.registrarLida();
+            if (lote.registros[i] != null) {
+                validos.add(lote.registros[i]);
+            }
+        }
+        List<Object> recusados = new ArrayList<>();
+        switch (tipo) {
+            case USUARIOS:
+                recusados.addAll(usuarioService.adicionarUsuarios(converterLista(validos)));
+                break;
+            case EVENTOS:
+                recusados.addAll(eventoService.adicionarEventos(converterLista(validos)));
+                break;
+            default:
+                for (Object valido : validos) {
+                    if (!participar((Participacao) valido)) {
+                        recusados.add(valido);
+                    }
+                }
+        }
+
+        int proximoRecusado = 0;
+        for (int i = 0; i < lote.tamanho; i++) {
+            Object registro = lote.registros[i];
+            if (registro == null) {
+                rejeitar(rejeitados, lote.numeros[i], lote.motivos[i], lote.linhas[i], resultado);
+            } else if (proximoRecusado < recusados.size() && recusados.get(proximoRecusado) == registro) {
+                proximoRecusado++;
+                rejeitar(rejeitados, lote.numeros[i], motivoRecusa(tipo, registro), lote.linhas[i], resultado);
+            } else {
+                resultado.registrarImportada();
+            }
+        }
+    }
+
+    private boolean participar(Participacao participacao) {
+        Usuario usuario = usuarioService.buscarPorEmail(participacao.email);
+        Evento evento = eventoService.buscarPorId(participacao.eventoId);
+        if (usuario == null || evento == null) {
+            return false;
+        }
+        return eventoService.participar(usuario, evento) || evento.estaNaListaDeEspera(usuario);
+    }
+
+    private String motivoRecusa(TipoRegistro tipo, Object registro) {
+        switch (tipo) {
+            case USUARIOS:
+                return "E-mail já cadastrado";
+            case EVENTOS:
+                return "Id de evento já existe";
+            default:
+                Participacao participacao = (Participacao) registro;
+                if (usuarioService.buscarPorEmail(participacao.email) == null) {
+                    return "Usuário não encontrado";
+                }
+                if (eventoService.buscarPorId(participacao.eventoId) == null) {
+                    return "Evento não encontrado";
+                }
+                return "Participação já confirmada";
+        }
+    }
+
+    private static void rejeitar(Writer rejeitados, int numero, String motivo, String linha,
+                                 ResultadoImportacao resultado) throws IOException {
+        resultado.registrarRejeitada();
+        rejeitados.write(Integer.toString(numero));
+        rejeitados.write(',');
+        Formatos.escreverCsv(rejeitados, motivo);
+        rejeitados.write(',');
+        Formatos.escreverCsv(rejeitados, linha);
+        rejeitados.write('\n');
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> converterLista(List<Object> lista) {
+        return (List<T>) lista;
+    }
+
+    private static class Lote {
+        private final int[] numeros = new int[TAMANHO_LOTE];
+        private final String[] linhas = new String[TAMANHO_LOTE];
+        private final Object[] registros = new Object[TAMANHO_LOTE];
+        private final String[] motivos = new String[TAMANHO_LOTE];
+        private int tamanho;
+
+        void adicionar(int numero, String linha) {
+            numeros[tamanho] = numero;
+            linhas[tamanho] = linha;
+            tamanho++;
+        }
+    }
+
+    private static class Participacao {
+        private final String email;
+        private final int eventoId;
+
+        Participacao(String email, int eventoId) {
+            this.email = email;
+            this.eventoId = eventoId;
+        }
+    }
+}
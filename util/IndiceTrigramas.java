@@ -0,0 +1,244 @@
+package util;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class IndiceTrigramas<T> implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private final List<T> itens = new ArrayList<>();
+    private final List<String> nomes = new ArrayList<>();
+    private final Map<Long, Postagens> postagens = new HashMap<>();
+    private final ReentrantReadWriteLock bloqueio = new ReentrantReadWriteLock();
+
+    public void adicionar(T item, String nome) {
+        String dobrado = dobrar(nome.toLowerCase());
+        bloqueio.writeLock().lock();
+        try {
+            int doc = itens.size();
+            itens.add(item);
+            nomes.add(nome);
+            for (int i = 0; i + 3 <= dobrado.length(); i++) {
+                postagens.computeIfAbsent(trigrama(dobrado, i), t -> new Postagens()).adicionar(doc);
+            }
+        } finally {
+            bloqueio.writeLock().unlock();
+        }
+    }
+
+    public List<T> buscar(String termo) {
+        bloqueio.readLock().lock();
+        try {
+            return buscarSemBloqueio(termo);
+        } finally {
+            bloqueio.readLock().unlock();
+        }
+    }
+
+    private List<T> buscarSemBloqueio(String termo) {
+        String alvo = termo.toLowerCase();
+        String dobrado = dobrar(alvo);
+        List<T> resultado = new ArrayList<>();
+        if (dobrado.length() < 3) {
+            for (int doc = 0; doc < itens.size(); doc++) {
+                if (nomes.get(doc).toLowerCase().contains(alvo)) {
+                    resultado.add(itens.get(doc));
+                }
+            }
+            return resultado;
+        }
+
+        List<Postagens> listas = listasDoTermo(dobrado);
+        if (listas == null) {
+            return resultado;
+        }
+
+        int[] candidatos = Arrays.copyOf(listas.get(0).docs, listas.get(0).tamanho);
+        int total = candidatos.length;
+        for (int l = 1; l < listas.size() && total > 0; l++) {
+            total = intersectar(candidatos, total, listas.get(l));
+        }
+        for (int i = 0; i < total; i++) {
+            int doc = candidatos[i];
+            if (nomes.get(doc).toLowerCase().contains(alvo)) {
+                resultado.add(itens.get(doc));
+            }
+        }
+        return resultado;
+    }
+
+    public int buscar(String termo, int inicio, int limite, List<T> destino) {
+        String alvo = termo.toLowerCase();
+        String dobrado = dobrar(alvo);
+        bloqueio.readLock().lock();
+        try {
+            int encontrados = 0;
+            if (dobrado.length() < 3) {
+                for (int doc = Math.max(0, inicio); doc < itens.size(); doc++) {
+                    if (nomes.get(doc).toLowerCase().contains(alvo)) {
+                        if (encontrados++ == limite) {
+                            return doc;
+                        }
+                        destino.add(itens.get(doc));
+                    }
+                }
+                return -1;
+            }
+            List<Postagens> listas = listasDoTermo(dobrado);
+            if (listas == null) {
+                return -1;
+            }
+            Postagens menor = listas.get(0);
+            int posicao = Arrays.binarySearch(menor.docs, 0, menor.tamanho, Math.max(0, inicio));
+            for (int i = posicao < 0 ? -posicao - 1 : posicao; i < menor.tamanho; i++) {
+                int doc = menor.docs[i];
+                if (contidoEmTodas(listas, doc) && nomes.get(doc).toLowerCase().contains(alvo)) {
+                    if (encontrados++ == limite) {
+                        return doc;
+                    }
+                    destino.add(itens.get(doc));
+                }
+            }
+            return -1;
+        } finally {
+            bloqueio.readLock().unlock();
+        }
+    }
+
+    public int estimar(String termo) {
+        String dobrado = dobrar(termo.toLowerCase());
+        if (dobrado.length() < 3) {
+            return -1;
+        }
+        bloqueio.readLock().lock();
+        try {
+            List<Postagens> listas = listasDoTermo(dobrado);
+            return listas == null ? 0 : listas.get(0).tamanho;
+        } finally {
+            bloqueio.readLock().unlock();
+        }
+    }
+
+    public int[] candidatos(String termo) {
+        String dobrado = dobrar(termo.toLowerCase());
+        if (dobrado.length() < 3) {
+            return null;
+        }
+        bloqueio.readLock().lock();
+        try {
+            List<Postagens> listas = listasDoTermo(dobrado);
+            if (listas == null) {
+                return new int[0];
+            }
+            int[] candidatos = Arrays.copyOf(listas.get(0).docs, listas.get(0).tamanho);
+            int total = candidatos.length;
+            for (int l = 1; l < listas.size() && total > 0; l++) {
+                total = intersectar(candidatos, total, listas.get(l));
+            }
+            return Arrays.copyOf(candidatos, total);
+        } finally {
+            bloqueio.readLock().unlock();
+        }
+    }
+
+    private List<Postagens> listasDoTermo(String dobrado) {
+        List<Postagens> listas = new ArrayList<>();
+        for (int i = 0; i + 3 <= dobrado.length(); i++) {
+            Postagens lista = postagens.get(trigrama(dobrado, i));
+            if (lista == null) {
+                return null;
+            }
+            listas.add(lista);
+        }
+        listas.sort(Comparator.comparingInt(p -> p.tamanho));
+        return listas;
+    }
+
+    private static boolean contidoEmTodas(List<Postagens> listas, int doc) {
+        for (int l = 1; l < listas.size(); l++) {
+            Postagens lista = listas.get(l);
+            if (Arrays.binarySearch(lista.docs, 0, lista.tamanho, doc) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int intersectar(int[] candidatos, int total, Postagens lista) {
+        int n = 0;
+        int j = 0;
+        for (int i = 0; i < total && j < lista.tamanho; i++) {
+            int doc = candidatos[i];
+            while (j < lista.tamanho && lista.docs[j] < doc) {
+                j++;
+            }
+            if (j < lista.tamanho && lista.docs[j] == doc) {
+                candidatos[n++] = doc;
+            }
+        }
+        return n;
+    }
+
+    private static long trigrama(String texto, int i) {
+        return ((long) texto.charAt(i) << 32) | ((long) texto.charAt(i + 1) << 16) | texto.charAt(i + 2);
+    }
+
+    private static String dobrar(String minusculo) {
+        StringBuilder sb = null;
+        for (int i = 0; i < minusculo.length(); i++) {
+            char c = minusculo.charAt(i);
+            boolean diacritico = c >= '\u0300' && c <= '\u036F';
+            char d = diacritico ? c : dobrar(c);
+            if ((diacritico || d != c) && sb == null) {
+                sb = new StringBuilder(minusculo.length());
+                sb.append(minusculo, 0, i);
+            }
+            if (sb != null && !diacritico) {
+                sb.append(d);
+            }
+        }
+        return sb == null ? minusculo : sb.toString();
+    }
+
+    private static char dobrar(char c) {
+        switch (c) {
+            case 'á': case 'à': case 'â': case 'ã': case 'ä':
+                return 'a';
+            case 'é': case 'è': case 'ê': case 'ë':
+                return 'e';
+            case 'í': case 'ì': case 'î': case 'ï':
+                return 'i';
+            case 'ó': case 'ò': case 'ô': case 'õ': case 'ö':
+                return 'o';
+            case 'ú': case 'ù': case 'û': case 'ü':
+                return 'u';
+            case 'ç':
+                return 'c';
+            case 'ñ':
+                return 'n';
+            default:
+                return c;
+        }
+    }
+
+    private static class Postagens implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private int[] docs = new int[4];
+        private int tamanho;
+
+        void adicionar(int doc) {
+            if (tamanho > 0 && docs[tamanho - 1] == doc) {
+                return;
+            }
+            if (tamanho == docs.length) {
+                docs = Arrays.copyOf(docs, tamanho * 2);
+            }
+            docs[tamanho++] = doc;
+        }
+    }
+}
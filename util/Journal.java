@@ -0,0 +1,202 @@
+package util;
+
+import model.Categoria;
+import model.Evento;
+import model.Usuario;
+import service.EventoService;
+import service.UsuarioService;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class Journal implements Closeable {
+    private static final byte EVENTO_CRIADO = 1;
+    private static final byte USUARIO_CADASTRADO = 2;
+    private static final byte PARTICIPACAO = 3;
+    private static final byte CANCELAMENTO = 4;
+
+    private static final int LOTE_SYNC = 64;
+    private static final long INTERVALO_SYNC_MS = 200;
+    private static final Metricas.Operacao METRICA_REGISTRO = Metricas.operacao("journal.registrar");
+    private static final Metricas.Operacao METRICA_SINCRONIZACAO = Metricas.operacao("journal.sincronizar");
+
+    private final Path arquivo;
+    private FileOutputStream fos;
+    private DataOutputStream out;
+    private int pendentes;
+    private long registros;
+    private final ScheduledExecutorService sincronizador;
+
+    public Journal(String fileName) throws IOException {
+        this.arquivo = Paths.get(fileName);
+        abrir();
+        sincronizador = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "journal-sync");
+            t.setDaemon(true);
+            return t;
+        });
+        sincronizador.scheduleWithFixedDelay(this::sincronizarSilencioso,
+                INTERVALO_SYNC_MS, INTERVALO_SYNC_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private void abrir() throws IOException {
+        fos = new FileOutputStream(arquivo.toFile(), true);
+        out = new DataOutputStream(new BufferedOutputStream(fos));
+    }
+
+    public synchronized long getRegistros() {
+        return registros;
+    }
+
+    public synchronized void registrarEvento(Evento evento) throws IOException {
+        long inicio = METRICA_REGISTRO.iniciar();
+        int antes = out.size();
+        out.writeByte(EVENTO_CRIADO);
+        out.writeInt(evento.getId());
+        out.writeUTF(evento.getNome());
+        out.writeUTF(evento.getEndereco());
+        out.writeUTF(evento.getCategoria().name());
+        out.writeUTF(evento.getHorario().toString());
+        out.writeUTF(evento.getDescricao());
+        out.writeInt(evento.getCapacidade());
+        registrado(inicio, antes);
+    }
+
+    public synchronized void registrarUsuario(Usuario usuario) throws IOException {
+        long inicio = METRICA_REGISTRO.iniciar();
+        int antes = out.size();
+        out.writeByte(USUARIO_CADASTRADO);
+        out.writeInt(usuario.getId());
+        out.writeUTF(usuario.getNome());
+        out.writeUTF(usuario.getEmail());
+        out.writeUTF(usuario.getTelefone());
+        registrado(inicio, antes);
+    }
+
+    public synchronized void registrarParticipacao(Evento evento, Usuario usuario) throws IOException {
+        long inicio = METRICA_REGISTRO.iniciar();
+        int antes = out.size();
+        out.writeByte(PARTICIPACAO);
+        out.writeInt(evento.getId());
+        out.writeUTF(usuario.getEmail());
+        registrado(inicio, antes);
+    }
+
+    public synchronized void registrarCancelamento(Evento evento, Usuario usuario) throws IOException {
+        long inicio = METRICA_REGISTRO.iniciar();
+        int antes = out.size();
+        out.writeByte(CANCELAMENTO);
+        out.writeInt(evento.getId());
+        out.writeUTF(usuario.getEmail());
+        registrado(inicio, antes);
+    }
+
+    private void registrado(long inicio, int antes) throws IOException {
+        METRICA_REGISTRO.registrar(inicio, out.size() - antes);
+        registros++;
+        if (++pendentes >= LOTE_SYNC) {
+            sincronizar();
+        }
+    }
+
+    public synchronized void sincronizar() throws IOException {
+        if (pendentes == 0) {
+            return;
+        }
+        long inicio = METRICA_SINCRONIZACAO.iniciar();
+        out.flush();
+        fos.getChannel().force(false);
+        pendentes = 0;
+        METRICA_SINCRONIZACAO.registrar(inicio);
+    }
+
+    private void sincronizarSilencioso() {
+        try {
+            sincronizar();
+        } catch (IOException e) {
+            System.out.println("Erro ao sincronizar journal: " + e.getMessage());
+        }
+    }
+
+    public synchronized void reaplicar(EventoService eventoService, UsuarioService usuarioService) throws IOException {
+        if (!Files.exists(arquivo)) {
+            return;
+        }
+        byte[] dados = Files.readAllBytes(arquivo);
+        ByteArrayInputStream bytes = new ByteArrayInputStream(dados);
+        DataInputStream in = new DataInputStream(bytes);
+        int validos = 0;
+        long lidos = 0;
+        try {
+            while (bytes.available() > 0) {
+                byte tipo = in.readByte();
+                switch (tipo) {
+                    case EVENTO_CRIADO: {
+                        int id = in.readInt();
+                        Evento evento = new Evento(in.readUTF(), in.readUTF(), Categoria.valueOf(in.readUTF()),
+                                LocalDateTime.parse(in.readUTF()), in.readUTF(), in.readInt());
+                        evento.setId(id);
+                        if (eventoService.buscarPorId(id) == null) {
+                            eventoService.adicionarEvento(evento);
+                        }
+                        break;
+                    }
+                    case USUARIO_CADASTRADO: {
+                        int id = in.readInt();
+                        Usuario usuario = new Usuario(in.readUTF(), in.readUTF(), in.readUTF());
+                        usuario.setId(id);
+                        if (usuarioService.buscarPorEmail(usuario.getEmail()) == null) {
+                            usuarioService.adicionarUsuario(usuario);
+                        }
+                        break;
+                    }
+                    case PARTICIPACAO:
+                    case CANCELAMENTO: {
+                        Evento evento = eventoService.buscarPorId(in.readInt());
+                        Usuario usuario = usuarioService.buscarPorEmail(in.readUTF());
+                        if (usuario != null && evento != null) {
+                            if (tipo == PARTICIPACAO) {
+                                eventoService.participar(usuario, evento);
+                            } else {
+                                eventoService.cancelarParticipacao(usuario, evento);
+                            }
+                        }
+                        break;
+                    }
+                    default:
+                        throw new EOFException("Registro desconhecido no journal: " + tipo);
+                }
+                validos = dados.length - bytes.available();
+                lidos++;
+            }
+        } catch (EOFException e) {
+            System.out.println("Journal truncado, descartando registro incompleto.");
+        }
+        if (validos < dados.length) {
+            out.flush();
+            fos.getChannel().truncate(validos);
+        }
+        registros = lidos;
+    }
+
+    public synchronized void truncar() throws IOException {
+        out.flush();
+        fos.getChannel().truncate(0);
+        fos.getChannel().force(true);
+        pendentes = 0;
+        registros = 0;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        sincronizador.shutdown();
+        sincronizar();
+        out.close();
+    }
+}
@@ -0,0 +1,42 @@
+package util;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+public class ListaAnexavel<T> extends AbstractList<T> implements RandomAccess, Serializable {
+    private static final long serialVersionUID = 1L;
+    private volatile Object[] elementos = new Object[16];
+    private volatile int tamanho;
+
+    public synchronized int adicionar(T item) {
+        int posicao = tamanho;
+        if (posicao == elementos.length) {
+            elementos = Arrays.copyOf(elementos, posicao * 2);
+        }
+        elementos[posicao] = item;
+        tamanho = posicao + 1;
+        return posicao;
+    }
+
+    @Override
+    public boolean add(T item) {
+        adicionar(item);
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int indice) {
+        if (indice < 0 || indice >= tamanho) {
+            throw new IndexOutOfBoundsException("Índice: " + indice + ", tamanho: " + tamanho);
+        }
+        return (T) elementos[indice];
+    }
+
+    @Override
+    public int size() {
+        return tamanho;
+    }
+}
@@ -0,0 +1,203 @@
+package util;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+public final class Metricas {
+    private static final String NOME_MBEAN = "eventos:type=Metricas";
+    private static final DateTimeFormatter FORMATO_HORARIO = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+    private static final Map<String, Operacao> OPERACOES = new ConcurrentSkipListMap<>();
+    private static volatile boolean ativo = !"false".equalsIgnoreCase(System.getProperty("metricas.ativas"));
+    private static ScheduledExecutorService despejo;
+
+    private Metricas() {
+    }
+
+    public static Operacao operacao(String nome) {
+        return OPERACOES.computeIfAbsent(nome, Operacao::new);
+    }
+
+    public static boolean isAtivo() {
+        return ativo;
+    }
+
+    public static void setAtivo(boolean valor) {
+        ativo = valor;
+    }
+
+    public static List<ResumoOperacao> resumo() {
+        List<ResumoOperacao> resumos = new ArrayList<>();
+        for (Operacao operacao : OPERACOES.values()) {
+            ResumoOperacao resumo = operacao.resumo();
+            if (resumo.getContagem() > 0) {
+                resumos.add(resumo);
+            }
+        }
+        return resumos;
+    }
+
+    public static String relatorio() {
+        StringBuilder texto = new StringBuilder();
+        texto.append(String.format("%-34s %10s %11s %11s %11s %11s %11s %14s%n", "Operação", "Contagem",
+                "Média ms", "p50 ms", "p99 ms", "p999 ms", "Máx ms", "Bytes"));
+        List<ResumoOperacao> resumos = resumo();
+        if (resumos.isEmpty()) {
+            texto.append(ativo ? "Nenhuma operação registrada.\n" : "Métricas desativadas.\n");
+        }
+        for (ResumoOperacao resumo : resumos) {
+            texto.append(resumo).append('\n');
+        }
+        return texto.toString();
+    }
+
+    public static void limpar() {
+        OPERACOES.values().forEach(Operacao::limpar);
+    }
+
+    public static synchronized void iniciarDespejo(String arquivo, long intervaloSegundos) {
+        pararDespejo();
+        despejo = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "metricas-despejo");
+            t.setDaemon(true);
+            return t;
+        });
+        despejo.scheduleAtFixedRate(() -> despejar(arquivo), intervaloSegundos, intervaloSegundos, TimeUnit.SECONDS);
+    }
+
+    public static synchronized void pararDespejo() {
+        if (despejo != null) {
+            despejo.shutdown();
+            despejo = null;
+        }
+    }
+
+    private static void despejar(String arquivo) {
+        try (Writer saida = new FileWriter(arquivo, true)) {
+            saida.write("=== " + LocalDateTime.now().format(FORMATO_HORARIO) + " ===\n");
+            saida.write(relatorio());
+            saida.write('\n');
+        } catch (IOException e) {
+            System.out.println("Erro ao gravar métricas: " + e.getMessage());
+        }
+    }
+
+    public static void registrarMBean() {
+        try {
+            MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+            ObjectName nome = new ObjectName(NOME_MBEAN);
+            if (!servidor.isRegistered(nome)) {
+                servidor.registerMBean(new Bean(), nome);
+            }
+        } catch (JMException e) {
+            System.out.println("Erro ao registrar MBean de métricas: " + e.getMessage());
+        }
+    }
+
+    private static Map<String, Long> porOperacao(ToLongFunction<ResumoOperacao> valor) {
+        Map<String, Long> valores = new LinkedHashMap<>();
+        for (ResumoOperacao resumo : resumo()) {
+            valores.put(resumo.getNome(), valor.applyAsLong(resumo));
+        }
+        return valores;
+    }
+
+    public static final class Operacao {
+        private final String nome;
+        private final HistogramaLatencia latencias = new HistogramaLatencia();
+        private final LongAdder bytes = new LongAdder();
+
+        private Operacao(String nome) {
+            this.nome = nome;
+        }
+
+        public long iniciar() {
+            return ativo ? System.nanoTime() : 0;
+        }
+
+        public void registrar(long inicio) {
+            if (inicio != 0) {
+                latencias.registrar(System.nanoTime() - inicio);
+            }
+        }
+
+        public void registrar(long inicio, long bytesEscritos) {
+            if (inicio != 0) {
+                latencias.registrar(System.nanoTime() - inicio);
+                bytes.add(bytesEscritos);
+            }
+        }
+
+        public ResumoOperacao resumo() {
+            return new ResumoOperacao(nome, latencias, bytes.sum());
+        }
+
+        private void limpar() {
+            latencias.limpar();
+            bytes.reset();
+        }
+    }
+
+    private static class Bean implements MetricasMXBean {
+        @Override
+        public boolean isAtivo() {
+            return Metricas.isAtivo();
+        }
+
+        @Override
+        public void setAtivo(boolean ativo) {
+            Metricas.setAtivo(ativo);
+        }
+
+        @Override
+        public Map<String, Long> getContagens() {
+            return porOperacao(ResumoOperacao::getContagem);
+        }
+
+        @Override
+        public Map<String, Long> getP50Nanos() {
+            return porOperacao(ResumoOperacao::getP50Nanos);
+        }
+
+        @Override
+        public Map<String, Long> getP99Nanos() {
+            return porOperacao(ResumoOperacao::getP99Nanos);
+        }
+
+        @Override
+        public Map<String, Long> getP999Nanos() {
+            return porOperacao(ResumoOperacao::getP999Nanos);
+        }
+
+        @Override
+        public Map<String, Long> getBytesEscritos() {
+            return porOperacao(ResumoOperacao::getBytes);
+        }
+
+        @Override
+        public String getRelatorio() {
+            return Metricas.relatorio();
+        }
+
+        @Override
+        public void limpar() {
+            Metricas.limpar();
+        }
+    }
+}
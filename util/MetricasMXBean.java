@@ -0,0 +1,23 @@
+package util;
+
+import java.util.Map;
+
+public interface MetricasMXBean {
+    boolean isAtivo();
+
+    void setAtivo(boolean ativo);
+
+    Map<String, Long> getContagens();
+
+    Map<String, Long> getP50Nanos();
+
+    Map<String, Long> getP99Nanos();
+
+    Map<String, Long> getP999Nanos();
+
+    Map<String, Long> getBytesEscritos();
+
+    String getRelatorio();
+
+    void limpar();
+}
@@ -0,0 +1,30 @@
+package util;
+
+import java.util.Collections;
+import java.util.List;
+
+public final class Pagina<T> {
+    private final List<T> itens;
+    private final String cursor;
+
+    public Pagina(List<T> itens, String cursor) {
+        this.itens = Collections.unmodifiableList(itens);
+        this.cursor = cursor;
+    }
+
+    public List<T> getItens() {
+        return itens;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public boolean temProxima() {
+        return cursor != null;
+    }
+
+    public boolean isVazia() {
+        return itens.isEmpty();
+    }
+}
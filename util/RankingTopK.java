@@ -0,0 +1,112 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.ToIntFunction;
+
+public class RankingTopK<T> {
+    private final int k;
+    private final ToIntFunction<T> pontuacao;
+    private final ToIntFunction<T> ordem;
+    private final PriorityQueue<Entrada<T>> fila;
+    private final Map<T, Entrada<T>> membros = new HashMap<>();
+    private boolean incompleto;
+
+    public RankingTopK(int k, ToIntFunction<T> pontuacao, ToIntFunction<T> ordem) {
+        this.k = k;
+        this.pontuacao = pontuacao;
+        this.ordem = ordem;
+        this.fila = new PriorityQueue<>(k + 1, RankingTopK::comparar);
+    }
+
+    public synchronized void atualizar(T item) {
+        Entrada<T> nova = new Entrada<>(item, pontuacao.applyAsInt(item), ordem.applyAsInt(item));
+        Entrada<T> atual = membros.remove(item);
+        if (atual != null) {
+            fila.remove(atual);
+            if (comparar(nova, atual) < 0) {
+                incompleto = true;
+            }
+            inserir(nova);
+        } else if (fila.size() < k) {
+            inserir(nova);
+        } else if (comparar(nova, fila.peek()) > 0) {
+            membros.remove(fila.poll().item);
+            inserir(nova);
+        }
+    }
+
+    public synchronized List<T> topo(Iterable<T> todos) {
+        if (incompleto) {
+            limpar();
+            for (T item : todos) {
+                atualizar(item);
+            }
+        }
+        return ordenados();
+    }
+
+    public synchronized List<T> topo(List<T> todos, ForkJoinPool pool) {
+        if (incompleto) {
+            limpar();
+            int total = todos.size();
+            int bloco = Math.max(1, (total + pool.getParallelism() - 1) / pool.getParallelism());
+            List<ForkJoinTask<List<T>>> parciais = new ArrayList<>();
+            for (int inicio = 0; inicio < total; inicio += bloco) {
+                List<T> faixa = todos.subList(inicio, Math.min(total, inicio + bloco));
+                parciais.add(pool.submit(() -> {
+                    RankingTopK<T> parcial = new RankingTopK<>(k, pontuacao, ordem);
+                    faixa.forEach(parcial::atualizar);
+                    return parcial.ordenados();
+                }));
+            }
+            for (ForkJoinTask<List<T>> parcial : parciais) {
+                parcial.join().forEach(this::atualizar);
+            }
+        }
+        return ordenados();
+    }
+
+    private List<T> ordenados() {
+        List<Entrada<T>> entradas = new ArrayList<>(fila);
+        entradas.sort((a, b) -> comparar(b, a));
+        List<T> resultado = new ArrayList<>(entradas.size());
+        entradas.forEach(e -> resultado.add(e.item));
+        return resultado;
+    }
+
+    public synchronized void limpar() {
+        fila.clear();
+        membros.clear();
+        incompleto = false;
+    }
+
+    private void inserir(Entrada<T> entrada) {
+        fila.add(entrada);
+        membros.put(entrada.item, entrada);
+    }
+
+    private static int comparar(Entrada<?> a, Entrada<?> b) {
+        if (a.pontuacao != b.pontuacao) {
+            return Integer.compare(a.pontuacao, b.pontuacao);
+        }
+        return Integer.compare(b.ordem, a.ordem);
+    }
+
+    private static class Entrada<T> {
+        private final T item;
+        private final int pontuacao;
+        private final int ordem;
+
+        Entrada(T item, int pontuacao, int ordem) {
+            this.item = item;
+            this.pontuacao = pontuacao;
+            this.ordem = ordem;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package util;
+
+public class ResultadoImportacao {
+    private long lidas;
+    private long importadas;
+    private long rejeitadas;
+
+    void registrarLida() {
+        lidas++;
+    }
+
+    void registrarImportada() {
+        importadas++;
+    }
+
+    void registrarRejeitada() {
+        rejeitadas++;
+    }
+
+    public long getLidas() {
+        return lidas;
+    }
+
+    public long getImportadas() {
+        return importadas;
+    }
+
+    public long getRejeitadas() {
+        return rejeitadas;
+    }
+
+    @Override
+    public String toString() {
+        return "Linhas lidas: " + lidas + ", importadas: " + importadas + ", rejeitadas: " + rejeitadas;
+    }
+}
@@ -0,0 +1,61 @@
+package util;
+
+public class ResumoOperacao {
+    private final String nome;
+    private final long contagem;
+    private final long mediaNanos;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long p999Nanos;
+    private final long maximoNanos;
+    private final long bytes;
+
+    ResumoOperacao(String nome, HistogramaLatencia latencias, long bytes) {
+        this.nome = nome;
+        this.contagem = latencias.getContagem();
+        this.mediaNanos = contagem == 0 ? 0 : latencias.getSoma() / contagem;
+        this.p50Nanos = latencias.percentil(0.50);
+        this.p99Nanos = latencias.percentil(0.99);
+        this.p999Nanos = latencias.percentil(0.999);
+        this.maximoNanos = latencias.getMaximo();
+        this.bytes = bytes;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public long getContagem() {
+        return contagem;
+    }
+
+    public long getMediaNanos() {
+        return mediaNanos;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getP999Nanos() {
+        return p999Nanos;
+    }
+
+    public long getMaximoNanos() {
+        return maximoNanos;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-34s %10d %11.3f %11.3f %11.3f %11.3f %11.3f %14d", nome, contagem,
+                mediaNanos / 1e6, p50Nanos / 1e6, p99Nanos / 1e6, p999Nanos / 1e6, maximoNanos / 1e6, bytes);
+    }
+}
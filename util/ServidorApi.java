@@ -0,0 +1,525 @@
+package util;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import model.Categoria;
+import model.Evento;
+import model.Usuario;
+import service.EventoService;
+import service.FormatoRelatorio;
+import service.TabelaEventos;
+import service.UsuarioService;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class ServidorApi implements AutoCloseable {
+    private static final int LIMITE_PADRAO = 100;
+    private static final int LIMITE_MAXIMO = 1000;
+    private static final int TOP_PARTICIPANTES = 5;
+    private static final long JANELA_ANDAMENTO_S = 3600;
+    private static final long DURACAO_SESSAO_MS = 30 * 60 * 1000;
+    private static final long INTERVALO_LIMPEZA_MS = 60 * 1000;
+    private static final int LIMITE_SESSOES = 100_000;
+    private static final String JSON = "application/json; charset=utf-8";
+    private static final String JSONL = "application/x-ndjson; charset=utf-8";
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final FileManager fileManager;
+    private final EventoService eventoService;
+    private final UsuarioService usuarioService;
+    private final Map<String, Sessao> sessoes = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService limpeza;
+    private final ExecutorService executor;
+    private final HttpServer servidor;
+
+    public ServidorApi(FileManager fileManager, int porta, int backlog) throws IOException {
+        this.fileManager = fileManager;
+        this.eventoService = fileManager.carregarEventos();
+        this.usuarioService = fileManager.carregarUsuarios();
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        this.limpeza = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "api-sessoes");
+            t.setDaemon(true);
+            return t;
+        });
+        limpeza.scheduleWithFixedDelay(this::removerSessoesExpiradas, INTERVALO_LIMPEZA_MS, INTERVALO_LIMPEZA_MS,
+                TimeUnit.MILLISECONDS);
+        this.executor = criarExecutor();
+        this.servidor = HttpServer.create(new InetSocketAddress(porta), backlog);
+        servidor.setExecutor(executor);
+        servidor.createContext("/login", rota("api.login", this::login));
+        servidor.createContext("/logout", rota("api.logout", this::logout));
+        servidor.createContext("/usuarios", rota("api.usuarios", this::usuarios));
+        servidor.createContext("/eventos", rota("api.eventos", this::eventos));
+        servidor.createContext("/relatorios", rota("api.relatorios", this::relatorios));
+    }
+
+    public void iniciar() {
+        servidor.start();
+    }
+
+    public int getPorta() {
+        return servidor.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        servidor.stop(0);
+        executor.shutdown();
+        limpeza.shutdown();
+    }
+
+    private static ExecutorService criarExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "api-http");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    private HttpHandler rota(String nome, Acao acao) {
+        Metricas.Operacao metrica = Metricas.operacao(nome);
+        return troca -> {
+            long inicio = metrica.iniciar();
+            try {
+                acao.executar(troca);
+            } catch (ErroApi e) {
+                responderErro(troca, e.status, e.getMessage());
+            } catch (IllegalArgumentException e) {
+                responderErro(troca, 400, e.getMessage());
+            } catch (RuntimeException e) {
+                responderErro(troca, 500, "Erro inesperado: " + e.getMessage());
+            } finally {
+                troca.close();
+                metrica.registrar(inicio);
+            }
+        };
+    }
+
+    private void login(HttpExchange troca) throws IOException {
+        exigirMetodo(troca, "POST");
+        Map<String, String> corpo = lerCorpo(troca);
+        Usuario usuario = usuarioService.buscarPorEmail(campo(corpo, "email"));
+        if (usuario == null) {
+            throw new ErroApi(404, "Usuário não encontrado!");
+        }
+        responder(troca, 200, sessao(usuario));
+    }
+
+    private void logout(HttpExchange troca) throws IOException {
+        exigirMetodo(troca, "POST");
+        autenticar(troca);
+        sessoes.remove(token(troca));
+        responder(troca, 200, "{\"situacao\":\"sessao_encerrada\"}");
+    }
+
+    private void usuarios(HttpExchange troca) throws IOException {
+        exigirMetodo(troca, "POST");
+        Map<String, String> corpo = lerCorpo(troca);
+        String nome = campo(corpo, "nome");
+        if (nome.isEmpty()) {
+            throw new ErroApi(400, "Nome não pode estar vazio!");
+        }
+        String email = campo(corpo, "email");
+        if (!Validador.validarEmail(email)) {
+            throw new ErroApi(400, "Email inválido!");
+        }
+        String telefone = campo(corpo, "telefone");
+        if (!Validador.validarTelefone(telefone)) {
+            throw new ErroApi(400, "Telefone inválido! Use apenas números (10 ou 11 dígitos)");
+        }
+        Usuario usuario = new Usuario(nome, email, telefone);
+        try {
+            fileManager.adicionarUsuario(usuario);
+        } catch (IllegalArgumentException e) {
+            throw new ErroApi(409, e.getMessage());
+        }
+        responder(troca, 201, sessao(usuario));
+    }
+
+    private void eventos(HttpExchange troca) throws IOException {
+        String[] partes = troca.getRequestURI().getPath().split("/");
+        if (partes.length <= 2) {
+            if (troca.getRequestMethod().equals("POST")) {
+                cadastrarEvento(troca);
+            } else {
+                exigirMetodo(troca, "GET");
+                listarEventos(troca);
+            }
+            return;
+        }
+        Evento evento = eventoService.buscarPorId(lerId(partes[2]));
+        if (evento == null) {
+            throw new ErroApi(404, "Evento não encontrado.");
+        }
+        if (partes.length == 3) {
+            exigirMetodo(troca, "GET");
+            StringWriter texto = new StringWriter();
+            escreverEvento(texto, evento);
+            responder(troca, 200, texto.toString());
+        } else if (partes.length == 4 && partes[3].equals("participacao")) {
+            participacao(troca, evento);
+        } else {
+            throw new ErroApi(404, "Recurso não encontrado.");
+        }
+    }
+
+    private void listarEventos(HttpExchange troca) throws IOException {
+        Map<String, String> parametros = lerParametros(troca);
+        int limite = LIMITE_PADRAO;
+        if (parametros.containsKey("limite")) {
+            limite = Validador.lerCapacidade(parametros.get("limite").trim());
+            if (limite <= 0 || limite > LIMITE_MAXIMO) {
+                throw new ErroApi(400, "Limite inválido! Use um número entre 1 e " + LIMITE_MAXIMO);
+            }
+        }
+        String cursor = parametros.get("cursor");
+        Pagina<Evento> pagina;
+        if (parametros.containsKey("nome")) {
+            pagina = eventoService.paginaPorNome(parametros.get("nome"), cursor, limite);
+        } else if (parametros.containsKey("categoria")) {
+            pagina = eventoService.paginaPorCategoria(Validador.converterCategoria(parametros.get("categoria").trim()),
+                    cursor, limite);
+        } else if (parametros.containsKey("data")) {
+            int data = Validador.lerData(parametros.get("data").trim());
+            if (data < 0) {
+                throw new ErroApi(400, "Data inválida! Use o formato dd/mm/aaaa");
+            }
+            pagina = eventoService.paginaPorData(Validador.converterDataHora(data, 0), cursor, limite);
+        } else {
+            String periodo = parametros.getOrDefault("periodo", "todos");
+            switch (periodo) {
+                case "todos":
+                    pagina = eventoService.paginaEventosOrdenados(cursor, limite);
+                    break;
+                case "futuros":
+                    pagina = eventoService.paginaEventosFuturos(cursor, limite);
+                    break;
+                case "andamento":
+                    pagina = eventoService.paginaEventosOcorrendoAgora(cursor, limite);
+                    break;
+                case "passados":
+                    pagina = eventoService.paginaEventosPassados(cursor, limite);
+                    break;
+                default:
+                    throw new ErroApi(400, "Período inválido! Use: todos, futuros, andamento ou passados");
+            }
+        }
+        StringWriter texto = new StringWriter();
+        texto.write("{\"eventos\":[");
+        List<Evento> eventos = pagina.getItens();
+        for (int i = 0; i < eventos.size(); i++) {
+            if (i > 0) {
+                texto.write(',');
+            }
+            escreverEvento(texto, eventos.get(i));
+        }
+        texto.write("],\"cursor\":");
+        if (pagina.temProxima()) {
+            Formatos.escreverJson(texto, pagina.getCursor());
+        } else {
+            texto.write("null");
+        }
+        texto.write('}');
+        responder(troca, 200, texto.toString());
+    }
+
+    private void cadastrarEvento(HttpExchange troca) throws IOException {
+        autenticar(troca);
+        Map<String, String> corpo = lerCorpo(troca);
+        String nome = campo(corpo, "nome");
+        if (nome.isEmpty()) {
+            throw new ErroApi(400, "Nome do evento não pode estar vazio!");
+        }
+        String endereco = campo(corpo, "endereco");
+        if (endereco.isEmpty()) {
+            throw new ErroApi(400, "Endereço não pode estar vazio!");
+        }
+        Categoria categoria;
+        try {
+            categoria = Validador.converterCategoria(campo(corpo, "categoria"));
+        } catch (IllegalArgumentException e) {
+            throw new ErroApi(400, "Categoria inválida! Use: Festa, Show, Esporte ou Outro");
+        }
+        String descricao = campo(corpo, "descricao");
+        if (descricao.isEmpty()) {
+            throw new ErroApi(400, "Descrição não pode estar vazia!");
+        }
+        String capacidadeTexto = corpo.containsKey("capacidade") ? campo(corpo, "capacidade") : "0";
+        int capacidade = Validador.lerCapacidade(capacidadeTexto);
+        if (capacidade < 0) {
+            throw new ErroApi(400, "Capacidade inválida! Use um número inteiro.");
+        }
+        int data = Validador.lerData(campo(corpo, "data"));
+        if (data < 0) {
+            throw new ErroApi(400, "Data inválida! Use o formato dd/mm/aaaa");
+        }
+        int hora = Validador.lerHora(campo(corpo, "hora"));
+        if (hora < 0) {
+            throw new ErroApi(400, "Horário inválido! Use o formato HH:mm (24 horas)");
+        }
+        LocalDateTime horario = Validador.converterDataHora(data, hora);
+        if (horario.isBefore(LocalDateTime.now())) {
+            throw new ErroApi(400, "Não é possível criar eventos no passado!");
+        }
+        Evento evento = new Evento(nome, endereco, categoria, horario, descricao, capacidade);
+        fileManager.adicionarEvento(evento);
+        StringWriter texto = new StringWriter();
+        escreverEvento(texto, evento);
+        responder(troca, 201, texto.toString());
+    }
+
+    private void participacao(HttpExchange troca, Evento evento) throws IOException {
+        Usuario usuario = autenticar(troca);
+        String situacao;
+        if (troca.getRequestMethod().equals("DELETE")) {
+            fileManager.cancelarParticipacao(usuario, evento);
+            situacao = "cancelado";
+        } else {
+            exigirMetodo(troca, "POST");
+            fileManager.confirmarParticipacao(usuario, evento);
+            situacao = evento.estaNaListaDeEspera(usuario) ? "lista_de_espera" : "confirmado";
+        }
+        responder(troca, 200, "{\"evento\":" + evento.getId() + ",\"situacao\":\"" + situacao + "\"}");
+    }
+
+    private void relatorios(HttpExchange troca) throws IOException {
+        exigirMetodo(troca, "GET");
+        String path = troca.getRequestURI().getPath();
+        switch (path) {
+            case "/relatorios/eventos":
+                responder(troca, 200, relatorioEventos());
+                break;
+            case "/relatorios/participacao":
+            case "/relatorios/categorias":
+                Usuario usuario = autenticar(troca);
+                troca.getResponseHeaders().set("Content-Type", JSONL);
+                troca.sendResponseHeaders(200, 0);
+                Writer saida = new BufferedWriter(new OutputStreamWriter(troca.getResponseBody(), StandardCharsets.UTF_8));
+                if (path.endsWith("participacao")) {
+                    usuarioService.gerarRelatorioParticipacao(saida, FormatoRelatorio.JSONL, usuario);
+                } else {
+                    usuarioService.gerarRelatorioCategorias(saida, FormatoRelatorio.JSONL, usuario);
+                }
+                saida.flush();
+                break;
+            default:
+                throw new ErroApi(404, "Relatório não encontrado.");
+        }
+    }
+
+    private String relatorioEventos() throws IOException {
+        TabelaEventos tabela = eventoService.tabelaColunar();
+        long[] porCategoria = tabela.contarPorCategoria();
+        long[] porPeriodo = tabela.contarPorPeriodo(LocalDateTime.now().toEpochSecond(ZoneOffset.UTC), JANELA_ANDAMENTO_S);
+        StringWriter texto = new StringWriter();
+        texto.write("{\"total\":" + tabela.tamanho() + ",\"porCategoria\":{");
+        for (Categoria categoria : Categoria.values()) {
+            if (categoria.ordinal() > 0) {
+                texto.write(',');
+            }
+            texto.write("\"" + categoria.name() + "\":" + porCategoria[categoria.ordinal()]);
+        }
+        texto.write("},\"futuros\":" + porPeriodo[0] + ",\"emAndamento\":" + porPeriodo[1]
+                + ",\"passados\":" + porPeriodo[2] + ",\"maisParticipantes\":[");
+        int[] linhas = tabela.maisParticipantes(TOP_PARTICIPANTES);
+        for (int i = 0; i < linhas.length; i++) {
+            if (i > 0) {
+                texto.write(',');
+            }
+            Evento evento = eventoService.buscarPorId(tabela.id(linhas[i]));
+            texto.write("{\"id\":" + evento.getId() + ",\"nome\":");
+            Formatos.escreverJson(texto, evento.getNome());
+            texto.write(",\"participantes\":" + tabela.totalParticipantes(linhas[i]) + "}");
+        }
+        texto.write("]}");
+        return texto.toString();
+    }
+
+    private String sessao(Usuario usuario) throws IOException {
+        String token = UUID.randomUUID().toString();
+        if (sessoes.size() >= LIMITE_SESSOES) {
+            liberarSessoes();
+        }
+        sessoes.put(token, new Sessao(usuario, System.currentTimeMillis() + DURACAO_SESSAO_MS));
+        StringWriter texto = new StringWriter();
+        texto.write("{\"token\":\"" + token + "\",\"usuario\":");
+        escreverUsuario(texto, usuario);
+        texto.write('}');
+        return texto.toString();
+    }
+
+    private synchronized void liberarSessoes() {
+        removerSessoesExpiradas();
+        int excedentes = sessoes.size() - LIMITE_SESSOES * 9 / 10;
+        if (excedentes > 0) {
+            sessoes.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entrada -> entrada.getValue().expiraEm))
+                    .limit(excedentes)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList())
+                    .forEach(sessoes::remove);
+        }
+    }
+
+    private void removerSessoesExpiradas() {
+        long agora = System.currentTimeMillis();
+        sessoes.values().removeIf(sessao -> sessao.expiraEm <= agora);
+    }
+
+    private Usuario autenticar(HttpExchange troca) {
+        String token = token(troca);
+        Sessao sessao = token != null ? sessoes.get(token) : null;
+        long agora = System.currentTimeMillis();
+        if (sessao == null || sessao.expiraEm <= agora) {
+            if (sessao != null) {
+                sessoes.remove(token, sessao);
+            }
+            throw new ErroApi(401, "Faça login para continuar.");
+        }
+        sessao.expiraEm = agora + DURACAO_SESSAO_MS;
+        return sessao.usuario;
+    }
+
+    private static String token(HttpExchange troca) {
+        String cabecalho = troca.getRequestHeaders().getFirst("Authorization");
+        return cabecalho != null && cabecalho.startsWith("Bearer ") ? cabecalho.substring(7).trim() : null;
+    }
+
+    private static void escreverEvento(Writer saida, Evento evento) throws IOException {
+        saida.write("{\"id\":" + evento.getId() + ",\"nome\":");
+        Formatos.escreverJson(saida, evento.getNome());
+        saida.write(",\"endereco\":");
+        Formatos.escreverJson(saida, evento.getEndereco());
+        saida.write(",\"categoria\":\"" + evento.getCategoria().name() + "\",\"data\":\""
+                + evento.getHorario().format(DATE_FORMATTER) + "\",\"hora\":\""
+                + evento.getHorario().format(TIME_FORMATTER) + "\",\"descricao\":");
+        Formatos.escreverJson(saida, evento.getDescricao());
+        saida.write(",\"capacidade\":" + evento.getCapacidade() + ",\"participantes\":"
+                + evento.getTotalParticipantes() + "}");
+    }
+
+    private static void escreverUsuario(Writer saida, Usuario usuario) throws IOException {
+        saida.write("{\"id\":" + usuario.getId() + ",\"nome\":");
+        Formatos.escreverJson(saida, usuario.getNome());
+        saida.write(",\"email\":");
+        Formatos.escreverJson(saida, usuario.getEmail());
+        saida.write(",\"telefone\":");
+        Formatos.escreverJson(saida, usuario.getTelefone());
+        saida.write('}');
+    }
+
+    private static void exigirMetodo(HttpExchange troca, String metodo) {
+        if (!troca.getRequestMethod().equals(metodo)) {
+            throw new ErroApi(405, "Método não permitido: " + troca.getRequestMethod());
+        }
+    }
+
+    private static Map<String, String> lerCorpo(HttpExchange troca) throws IOException {
+        return Formatos.lerJson(new String(troca.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    private static Map<String, String> lerParametros(HttpExchange troca) {
+        Map<String, String> parametros = new HashMap<>();
+        String consulta = troca.getRequestURI().getRawQuery();
+        if (consulta == null) {
+            return parametros;
+        }
+        for (String par : consulta.split("&")) {
+            int igual = par.indexOf('=');
+            if (igual > 0) {
+                parametros.put(URLDecoder.decode(par.substring(0, igual), StandardCharsets.UTF_8),
+                        URLDecoder.decode(par.substring(igual + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return parametros;
+    }
+
+    private static String campo(Map<String, String> corpo, String nome) {
+        String valor = corpo.get(nome);
+        if (valor == null) {
+            throw new ErroApi(400, "Campo obrigatório ausente: " + nome);
+        }
+        return valor.trim();
+    }
+
+    private static int lerId(String texto) {
+        try {
+            return Integer.parseInt(texto);
+        } catch (NumberFormatException e) {
+            throw new ErroApi(400, "Identificador inválido: " + texto);
+        }
+    }
+
+    private static void responder(HttpExchange troca, int status, String json) throws IOException {
+        byte[] corpo = json.getBytes(StandardCharsets.UTF_8);
+        troca.getResponseHeaders().set("Content-Type", JSON);
+        troca.sendResponseHeaders(status, corpo.length);
+        troca.getResponseBody().write(corpo);
+    }
+
+    private static void responderErro(HttpExchange troca, int status, String mensagem) throws IOException {
+        if (troca.getResponseCode() != -1) {
+            System.out.println("Erro ao responder requisição: " + mensagem);
+            return;
+        }
+        StringWriter texto = new StringWriter();
+        texto.write("{\"erro\":");
+        Formatos.escreverJson(texto, mensagem == null ? "" : mensagem);
+        texto.write('}');
+        responder(troca, status, texto.toString());
+    }
+
+    private interface Acao {
+        void executar(HttpExchange troca) throws IOException;
+    }
+
+    private static class Sessao {
+        private final Usuario usuario;
+        private volatile long expiraEm;
+
+        Sessao(Usuario usuario, long expiraEm) {
+            this.usuario = usuario;
+            this.expiraEm = expiraEm;
+        }
+    }
+
+    private static class ErroApi extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        private final int status;
+
+        ErroApi(int status, String mensagem) {
+            super(mensagem);
+            this.status = status;
+        }
+    }
+}
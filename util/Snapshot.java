@@ -0,0 +1,319 @@
+package util;
+
+import model.Categoria;
+import model.Evento;
+import model.Usuario;
+import service.EventoService;
+import service.UsuarioService;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+public class Snapshot {
+    private static final int MAGIC = 0x46455654;
+    private static final int VERSAO = 3;
+    private static final int TAMANHO_BUFFER = 1 << 16;
+    private static final int TAMANHO_INDICE = 4 + 8 + 4 + 1 + 4 + 4;
+    private static final int TAMANHO_RODAPE = 4 + 4 + 4 + 4 + 4;
+
+    private Snapshot() {
+    }
+
+    public static void escrever(String fileName, EventoService eventoService, UsuarioService usuarioService) throws IOException {
+        Path destino = Paths.get(fileName).toAbsolutePath();
+        Path temporario = destino.resolveSibling(destino.getFileName() + ".tmp");
+        List<Usuario> usuarios;
+        List<Evento> eventos;
+        int totalUsuarios;
+        int totalEventos;
+        int[] offsetsUsuarios;
+        int[] arestasUsuarios;
+        int[] offsets;
+        boolean mapeados = false;
+        try (FileOutputStream fos = new FileOutputStream(temporario.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos, TAMANHO_BUFFER))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSAO);
+
+            usuarios = usuarioService.getUsuarios();
+            totalUsuarios = usuarios.size();
+            offsetsUsuarios = new int[totalUsuarios];
+            arestasUsuarios = new int[totalUsuarios];
+            out.writeInt(totalUsuarios);
+            out.writeInt(usuarios.stream().limit(totalUsuarios).mapToInt(Usuario::getId).max().orElse(0));
+            for (int i = 0; i < totalUsuarios; i++) {
+                Usuario usuario = usuarios.get(i);
+                out.writeInt(usuario.getId());
+                offsetsUsuarios[i] = posicao(out);
+                if (usuario instanceof UsuarioMapeado) {
+                    ((UsuarioMapeado) usuario).escreverDados(out);
+                    mapeados = true;
+                } else {
+                    escreverTexto(out, usuario.getNome());
+                    escreverTexto(out, usuario.getEmail());
+                    escreverTexto(out, usuario.getTelefone());
+                }
+            }
+
+            eventos = eventoService.getEventos();
+            totalEventos = eventos.size();
+            offsets = new int[totalEventos];
+            for (int i = 0; i < totalEventos; i++) {
+                Evento evento = eventos.get(i);
+                offsets[i] = posicao(out);
+                if (evento instanceof EventoMapeado) {
+                    ((EventoMapeado) evento).escreverRegistro(out);
+                    mapeados = true;
+                } else {
+                    escreverTexto(out, evento.getNome());
+                    escreverTexto(out, evento.getEndereco());
+                    escreverTexto(out, evento.getDescricao());
+                    escreverUsuarios(out, evento.getParticipantes());
+                    escreverUsuarios(out, evento.getListaDeEspera());
+                }
+            }
+
+            int inicioIndice = posicao(out);
+            for (int i = 0; i < totalEventos; i++) {
+                Evento evento = eventos.get(i);
+                out.writeInt(evento.getId());
+                out.writeLong(evento.getHorarioEmSegundos());
+                out.writeInt(evento.getHorarioNanos());
+                out.writeByte(evento.getCategoria().ordinal());
+                out.writeInt(offsets[i]);
+                out.writeInt(evento.getCapacidade());
+            }
+
+            int inicioArestas = posicao(out);
+            for (int i = 0; i < totalUsuarios; i++) {
+                Usuario usuario = usuarios.get(i);
+                arestasUsuarios[i] = posicao(out);
+                if (usuario instanceof UsuarioMapeado) {
+                    ((UsuarioMapeado) usuario).escreverConfirmados(out);
+                } else {
+                    escreverEventos(out, usuario.getEventosConfirmados());
+                }
+            }
+
+            out.writeInt(inicioIndice);
+            out.writeInt(inicioArestas);
+            out.writeInt(totalEventos);
+            out.writeInt(eventos.stream().limit(totalEventos).mapToInt(Evento::getId).max().orElse(0));
+            out.writeInt(MAGIC);
+            posicao(out);
+            out.flush();
+            fos.getChannel().force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(temporario);
+            throw e;
+        }
+        Files.move(temporario, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        if (mapeados) {
+            reanexar(destino, eventos, offsets, totalEventos, usuarios, offsetsUsuarios, arestasUsuarios);
+        }
+    }
+
+    private static void reanexar(Path arquivo, List<Evento> eventos, int[] offsets, int totalEventos,
+                                 List<Usuario> usuarios, int[] offsetsUsuarios, int[] arestasUsuarios) {
+        ByteBuffer buffer;
+        try {
+            buffer = mapear(arquivo);
+        } catch (IOException e) {
+            System.out.println("Erro ao mapear o novo snapshot: " + e.getMessage());
+            return;
+        }
+        for (int i = 0; i < totalEventos; i++) {
+            Evento evento = eventos.get(i);
+            if (evento instanceof EventoMapeado) {
+                ((EventoMapeado) evento).reanexar(buffer, offsets[i]);
+            }
+        }
+        for (int i = 0; i < offsetsUsuarios.length; i++) {
+            Usuario usuario = usuarios.get(i);
+            if (usuario instanceof UsuarioMapeado) {
+                ((UsuarioMapeado) usuario).reanexar(buffer, offsetsUsuarios[i], arestasUsuarios[i]);
+            }
+        }
+    }
+
+    private static MappedByteBuffer mapear(Path arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            if (canal.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot excede o limite de 2 GB.");
+            }
+            return canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+        }
+    }
+
+    public static void ler(String fileName, EventoService eventoService, UsuarioService usuarioService) throws IOException {
+        ler(fileName, eventoService, usuarioService, false);
+    }
+
+    public static void ler(String fileName, EventoService eventoService, UsuarioService usuarioService,
+                           boolean mapeado) throws IOException {
+        MappedByteBuffer buffer = mapear(Paths.get(fileName));
+        if (buffer.capacity() < 8 + TAMANHO_RODAPE || buffer.getInt(0) != MAGIC
+                || buffer.getInt(buffer.capacity() - 4) != MAGIC) {
+            throw new IOException("Arquivo não é um snapshot de eventos.");
+        }
+        int versao = buffer.getInt(4);
+        if (versao != VERSAO) {
+            throw new IOException("Versão de snapshot não suportada: " + versao);
+        }
+
+        int rodape = buffer.capacity() - TAMANHO_RODAPE;
+        int inicioIndice = buffer.getInt(rodape);
+        int inicioArestas = buffer.getInt(rodape + 4);
+        int totalEventos = buffer.getInt(rodape + 8);
+        int maxIdEvento = buffer.getInt(rodape + 12);
+
+        int pos = 8;
+        int totalUsuarios = buffer.getInt(pos);
+        Usuario[] usuariosPorId = new Usuario[buffer.getInt(pos + 4) + 1];
+        Usuario[] usuariosEmOrdem = new Usuario[totalUsuarios];
+        Evento[] eventosPorId = new Evento[maxIdEvento + 1];
+        pos += 8;
+        int arestas = inicioArestas;
+        for (int i = 0; i < totalUsuarios; i++) {
+            int id = buffer.getInt(pos);
+            pos += 4;
+            Usuario usuario;
+            if (mapeado) {
+                int inicio = pos;
+                pos = pularTexto(buffer, pos);
+                UsuarioMapeado mapeadoUsuario = new UsuarioMapeado(buffer, inicio, lerTexto(buffer, pos), arestas,
+                        eventosPorId);
+                pos = pularTexto(buffer, pularTexto(buffer, pos));
+                arestas = pularParticipantes(buffer, arestas);
+                usuario = mapeadoUsuario;
+            } else {
+                String nome = lerTexto(buffer, pos);
+                pos = pularTexto(buffer, pos);
+                String email = lerTexto(buffer, pos);
+                pos = pularTexto(buffer, pos);
+                String telefone = lerTexto(buffer, pos);
+                pos = pularTexto(buffer, pos);
+                usuario = new Usuario(nome, email, telefone);
+            }
+            usuario.setId(id);
+            usuarioService.adicionarUsuario(usuario);
+            usuariosPorId[id] = usuario;
+            usuariosEmOrdem[i] = usuario;
+        }
+
+        Categoria[] categorias = Categoria.values();
+        for (int i = 0; i < totalEventos; i++) {
+            int entrada = inicioIndice + i * TAMANHO_INDICE;
+            int id = buffer.getInt(entrada);
+            long segundos = buffer.getLong(entrada + 4);
+            int nanos = buffer.getInt(entrada + 12);
+            Categoria categoria = categorias[buffer.get(entrada + 16)];
+            int offset = buffer.getInt(entrada + 17);
+            int capacidade = buffer.getInt(entrada + 21);
+            Evento evento;
+            if (mapeado) {
+                EventoMapeado mapeadoEvento = new EventoMapeado(buffer, offset, categoria, segundos, nanos, capacidade,
+                        usuariosPorId);
+                evento = mapeadoEvento;
+            } else {
+                String nome = lerTexto(buffer, offset);
+                offset = pularTexto(buffer, offset);
+                String endereco = lerTexto(buffer, offset);
+                offset = pularTexto(buffer, offset);
+                LocalDateTime horario = LocalDateTime.ofEpochSecond(segundos, nanos, ZoneOffset.UTC);
+                evento = new Evento(nome, endereco, categoria, horario, lerTexto(buffer, offset), capacidade);
+                offset = pularTexto(buffer, offset);
+                lerParticipantes(buffer, offset, usuariosPorId).forEach(evento::adicionarParticipante);
+                lerParticipantes(buffer, pularParticipantes(buffer, offset), usuariosPorId)
+                        .forEach(evento::entrarNaListaDeEspera);
+            }
+            evento.setId(id);
+            eventoService.adicionarEvento(evento);
+            eventosPorId[id] = evento;
+        }
+        if (mapeado) {
+            return;
+        }
+
+        pos = inicioArestas;
+        for (Usuario usuario : usuariosEmOrdem) {
+            int totalConfirmados = buffer.getInt(pos);
+            pos += 4;
+            for (int j = 0; j < totalConfirmados; j++) {
+                usuario.participarEvento(eventosPorId[buffer.getInt(pos)]);
+                pos += 4;
+            }
+        }
+    }
+
+    private static int posicao(DataOutputStream out) throws IOException {
+        int tamanho = out.size();
+        if (tamanho == Integer.MAX_VALUE) {
+            throw new IOException("Snapshot excede o limite de 2 GB.");
+        }
+        return tamanho;
+    }
+
+    static void escreverTexto(DataOutputStream out, String texto) throws IOException {
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static void escreverUsuarios(DataOutputStream out, List<Usuario> usuarios) throws IOException {
+        out.writeInt(usuarios.size());
+        for (Usuario usuario : usuarios) {
+            out.writeInt(usuario.getId());
+        }
+    }
+
+    static void escreverEventos(DataOutputStream out, List<Evento> eventos) throws IOException {
+        out.writeInt(eventos.size());
+        for (Evento evento : eventos) {
+            out.writeInt(evento.getId());
+        }
+    }
+
+    static void copiar(DataOutputStream out, ByteBuffer buffer, int inicio, int fim) throws IOException {
+        byte[] bytes = new byte[fim - inicio];
+        buffer.get(inicio, bytes);
+        out.write(bytes);
+    }
+
+    static String lerTexto(ByteBuffer buffer, int pos) {
+        byte[] bytes = new byte[buffer.getInt(pos)];
+        buffer.get(pos + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static int pularTexto(ByteBuffer buffer, int pos) {
+        return pos + 4 + buffer.getInt(pos);
+    }
+
+    static int pularParticipantes(ByteBuffer buffer, int pos) {
+        return pos + 4 + 4 * buffer.getInt(pos);
+    }
+
+    static List<Usuario> lerParticipantes(ByteBuffer buffer, int pos, Usuario[] usuariosPorId) {
+        int total = buffer.getInt(pos);
+        pos += 4;
+        List<Usuario> participantes = new ArrayList<>(total);
+        for (int j = 0; j < total; j++) {
+            participantes.add(usuariosPorId[buffer.getInt(pos)]);
+            pos += 4;
+        }
+        return participantes;
+    }
+}
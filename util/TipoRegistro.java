@@ -0,0 +1,7 @@
+package util;
+
+public enum TipoRegistro {
+    USUARIOS,
+    EVENTOS,
+    PARTICIPACOES
+}
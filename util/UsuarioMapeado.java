@@ -0,0 +1,95 @@
+package util;
+
+import model.ConjuntoOrdenado;
+import model.Evento;
+import model.Usuario;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+public class UsuarioMapeado extends Usuario {
+    private static final long serialVersionUID = 1L;
+    private transient ByteBuffer buffer;
+    private transient Evento[] eventosPorId;
+    private int offset;
+    private int offsetConfirmados;
+    private String nome;
+    private String telefone;
+    private ConjuntoOrdenado<Evento> confirmados;
+
+    UsuarioMapeado(ByteBuffer buffer, int offset, String email, int offsetConfirmados, Evento[] eventosPorId) {
+        super(email);
+        this.buffer = buffer;
+        this.offset = offset;
+        this.offsetConfirmados = offsetConfirmados;
+        this.eventosPorId = eventosPorId;
+    }
+
+    @Override
+    public synchronized String getNome() {
+        if (nome == null) {
+            nome = Snapshot.lerTexto(buffer, offset);
+        }
+        return nome;
+    }
+
+    @Override
+    public synchronized String getTelefone() {
+        if (telefone == null) {
+            telefone = Snapshot.lerTexto(buffer, Snapshot.pularTexto(buffer, Snapshot.pularTexto(buffer, offset)));
+        }
+        return telefone;
+    }
+
+    @Override
+    protected synchronized ConjuntoOrdenado<Evento> eventosConfirmados() {
+        if (confirmados == null) {
+            confirmados = new ConjuntoOrdenado<>();
+            int total = buffer.getInt(offsetConfirmados);
+            for (int j = 0; j < total; j++) {
+                confirmados.adicionar(eventosPorId[buffer.getInt(offsetConfirmados + 4 + 4 * j)]);
+            }
+            eventosPorId = null;
+        }
+        return confirmados;
+    }
+
+    @Override
+    public synchronized int getTotalEventosConfirmados() {
+        if (confirmados == null) {
+            return buffer.getInt(offsetConfirmados);
+        }
+        return confirmados.tamanho();
+    }
+
+    synchronized void escreverDados(DataOutputStream out) throws IOException {
+        int pos = escreverTexto(out, nome, offset);
+        pos = escreverTexto(out, getEmail(), pos);
+        escreverTexto(out, telefone, pos);
+    }
+
+    synchronized void escreverConfirmados(DataOutputStream out) throws IOException {
+        if (confirmados == null) {
+            Snapshot.copiar(out, buffer, offsetConfirmados, Snapshot.pularParticipantes(buffer, offsetConfirmados));
+        } else {
+            Snapshot.escreverEventos(out, confirmados.lista());
+        }
+    }
+
+    private int escreverTexto(DataOutputStream out, String carregado, int pos) throws IOException {
+        int fim = Snapshot.pularTexto(buffer, pos);
+        if (carregado == null) {
+            Snapshot.copiar(out, buffer, pos, fim);
+        } else {
+            Snapshot.escreverTexto(out, carregado);
+        }
+        return fim;
+    }
+
+    synchronized void reanexar(ByteBuffer buffer, int offset, int offsetConfirmados) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.offsetConfirmados = offsetConfirmados;
+    }
+}
@@ -0,0 +1,147 @@
+package util;
+
+import model.Categoria;
+
+import java.time.LocalDateTime;
+
+public final class Validador {
+    private Validador() {
+    }
+
+    public static boolean validarEmail(String email) {
+        int arroba = 0;
+        while (arroba < email.length() && caractereLocal(email.charAt(arroba))) {
+            arroba++;
+        }
+        if (arroba == 0 || arroba >= email.length() - 1 || email.charAt(arroba) != '@') {
+            return false;
+        }
+        for (int i = arroba + 1; i < email.length(); i++) {
+            if (terminadorDeLinha(email.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean validarTelefone(String telefone) {
+        return lerTelefone(telefone) >= 0;
+    }
+
+    public static long lerTelefone(String telefone) {
+        long numero = 0;
+        int digitos = 0;
+        for (int i = 0; i < telefone.length(); i++) {
+            char c = telefone.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digitos > 11) {
+                    return -1;
+                }
+                numero = numero * 10 + (c - '0');
+            }
+        }
+        return digitos >= 10 ? numero : -1;
+    }
+
+    public static boolean validarData(String data) {
+        return lerData(data) >= 0;
+    }
+
+    public static int lerData(String data) {
+        if (data.length() != 10 || data.charAt(2) != '/' || data.charAt(5) != '/') {
+            return -1;
+        }
+        int dia = lerDigitos(data, 0, 2);
+        int mes = lerDigitos(data, 3, 5);
+        int ano = lerDigitos(data, 6, 10);
+        if (dia < 1 || dia > 31 || mes < 1 || mes > 12 || ano < 1) {
+            return -1;
+        }
+        return ano * 10000 + mes * 100 + Math.min(dia, diasNoMes(mes, ano));
+    }
+
+    public static boolean validarHora(String hora) {
+        return lerHora(hora) >= 0;
+    }
+
+    public static int lerHora(String hora) {
+        int separador = hora.length() - 3;
+        if (separador < 1 || separador > 2 || hora.charAt(separador) != ':') {
+            return -1;
+        }
+        int horas = lerDigitos(hora, 0, separador);
+        int minutos = lerDigitos(hora, separador + 1, hora.length());
+        if (horas < 0 || horas > 23 || minutos < 0 || minutos > 59) {
+            return -1;
+        }
+        return horas * 60 + minutos;
+    }
+
+    public static boolean validarCapacidade(String capacidade) {
+        return lerCapacidade(capacidade) >= 0;
+    }
+
+    public static int lerCapacidade(String capacidade) {
+        if (capacidade.isEmpty() || capacidade.length() > 9) {
+            return -1;
+        }
+        return lerDigitos(capacidade, 0, capacidade.length());
+    }
+
+    public static LocalDateTime converterDataHora(String data, String hora) {
+        int dataLida = lerData(data);
+        int horaLida = lerHora(hora);
+        if (dataLida < 0 || horaLida < 0) {
+            throw new IllegalArgumentException("Data ou horário inválido: " + data + " " + hora);
+        }
+        return converterDataHora(dataLida, horaLida);
+    }
+
+    public static LocalDateTime converterDataHora(int data, int minutos) {
+        return LocalDateTime.of(data / 10000, data / 100 % 100, data % 100, minutos / 60, minutos % 60);
+    }
+
+    public static Categoria converterCategoria(String categoria) {
+        for (Categoria c : Categoria.values()) {
+            if (c.name().equalsIgnoreCase(categoria)) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException("Categoria inválida: " + categoria);
+    }
+
+    private static int lerDigitos(String texto, int inicio, int fim) {
+        int valor = 0;
+        for (int i = inicio; i < fim; i++) {
+            char c = texto.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            valor = valor * 10 + (c - '0');
+        }
+        return valor;
+    }
+
+    private static int diasNoMes(int mes, int ano) {
+        switch (mes) {
+            case 2:
+                return (ano % 4 == 0 && (ano % 100 != 0 || ano % 400 == 0)) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static boolean caractereLocal(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                || c == '+' || c == '_' || c == '.' || c == '-';
+    }
+
+    private static boolean terminadorDeLinha(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}